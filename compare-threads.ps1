@@ -0,0 +1,35 @@
+#플랫폼 스레드 vs 가상 스레드 처리량 비교 스크립트
+#사용법: kubectl port-forward service/task-api-service 8080:80 -n task-app 를 다른 터미널에서 실행한 뒤
+#        .\compare-threads.ps1
+
+$namespace = "task-app"
+$modes = @(
+    @{ Name = "platform"; Virtual = "false" },
+    @{ Name = "virtual";  Virtual = "true" }
+)
+
+foreach ($mode in $modes) {
+    Write-Host "=== $($mode.Name) threads ===" -ForegroundColor Cyan
+
+    # 스레드 모드를 바꾸고 롤아웃이 끝날 때까지 기다립니다.
+    kubectl set env deployment/task-api -n $namespace SPRING_THREADS_VIRTUAL_ENABLED=$($mode.Virtual)
+    kubectl rollout status deployment/task-api -n $namespace
+
+    # load-test.js의 handleSummary가 summary.json을 만들므로 모드별 파일로 옮겨 둡니다.
+    k6 run load-test.js
+    Move-Item -Force summary.json "summary-$($mode.Name).json"
+    Move-Item -Force report.html "report-$($mode.Name).html"
+}
+
+Write-Host "`n=== 비교 결과 ===" -ForegroundColor Green
+$rows = foreach ($mode in $modes) {
+    $summary = Get-Content "summary-$($mode.Name).json" | ConvertFrom-Json
+    [PSCustomObject]@{
+        Mode       = $mode.Name
+        "req/s"    = [math]::Round($summary.metrics.http_reqs.values.rate, 1)
+        "p95(ms)"  = [math]::Round($summary.metrics.http_req_duration.values."p(95)", 1)
+        "avg(ms)"  = [math]::Round($summary.metrics.http_req_duration.values.avg, 1)
+        "failed(%)" = [math]::Round($summary.metrics.http_req_failed.values.rate * 100, 2)
+    }
+}
+$rows | Format-Table -AutoSize
@@ -1,5 +1,6 @@
 import http from 'k6/http';
 import { check, sleep } from 'k6';
+import { Rate } from 'k6/metrics';
 import { htmlReport } from "https://raw.githubusercontent.com/benc-uk/k6-reporter/main/dist/bundle.js";
 export function handleSummary(data) {
   return {
@@ -19,17 +20,30 @@ export let options = {
   ],
   thresholds: {
     http_req_duration: ['p(95)<500'],
+    // 한도 안에서 처리된 요청만의 응답 시간 (거절된 요청은 바로 응답하므로 제외)
+    'http_req_duration{expected_response:true}': ['p(95)<500'],
     http_req_failed: ['rate<0.1'],
   },
 };
 
+// 서버가 동시 처리 한도를 넘어 바로 거절(503 + Retry-After)한 비율
+const shed = new Rate('shed');
+
+// VU마다 마지막으로 받은 목록 ETag (바뀌지 않았으면 서버가 본문 없이 304로 응답합니다)
+let listETag = null;
+
 export default function() {
   // GET 요청
-  let response = http.get('http://127.0.0.1:8080/api/tasks');
+  let response = http.get('http://127.0.0.1:8080/api/tasks',
+    listETag ? { headers: { 'If-None-Match': listETag } } : {});
+  shed.add(response.status === 503);
   check(response, {
-    'status is 200': (r) => r.status === 200,
+    'status is 200 or 304': (r) => r.status === 200 || r.status === 304,
     'response time < 500ms': (r) => r.timings.duration < 500,
   });
+  if (response.headers['Etag']) {
+    listETag = response.headers['Etag'];
+  }
   
   // POST 요청
   let payload = JSON.stringify({
@@ -42,6 +56,7 @@ export default function() {
   };
   
   response = http.post('http://127.0.0.1:8080/api/tasks', payload, params);
+  shed.add(response.status === 503);
   check(response, {
     'task created': (r) => r.status === 201 || r.status === 200,
   });
@@ -0,0 +1,42 @@
+package com.example.task;
+
+import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 테스트 데이터입니다.
+ * 부하 테스트(load-test.js)가 만드는 Task와 비슷한 길이의 값을 채웁니다.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * ID 내림차순(목록 조회 정렬 순서)으로 정렬된 Task 목록을 만듭니다.
+     * @param count 만들 Task 수
+     * @return Task 목록
+     */
+    public static List<Task> sampleTasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        LocalDateTime now = LocalDateTime.of(2025, 9, 21, 22, 44, 37);
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId((long) (count - i));
+            task.setTitle("Task " + (1758462277000L + i));
+            task.setDescription("Load test task #" + i + " - 부하 테스트로 생성된 작업입니다.");
+            task.setStatus(statuses[i % statuses.length]);
+            task.setPriority(i % 5);
+            task.setAssignee("user" + (i % 10));
+            task.setCreatedAt(now.plusSeconds(i));
+            task.setUpdatedAt(now.plusSeconds(i));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
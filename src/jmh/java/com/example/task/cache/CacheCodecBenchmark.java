@@ -0,0 +1,72 @@
+package com.example.task.cache;
+
+import com.example.task.BenchmarkFixtures;
+import com.example.task.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 'tasks' 캐시에 저장되는 List&lt;Task&gt;를 기존 Java 직렬화(jdk)와 smile 코덱으로
+ * 인코딩/디코딩하는 시간을 비교하는 벤치마크입니다.
+ * 직렬화된 바이트 크기는 준비 단계에서 콘솔에 출력합니다.
+ * <p>
+ * 실행: {@code ./gradlew jmh -Pjmh.includes=CacheCodecBenchmark}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    /** 목록 크기 (101 = 기본 최대 페이지 크기 + 1, 캐시되는 첫 페이지 구간 크기) */
+    @Param({"20", "101", "1000"})
+    public int size;
+
+    /** 비교할 코덱 */
+    @Param({"jdk", "smile"})
+    public String codecName;
+
+    private CacheValueCodec codec;
+    private List<Task> tasks;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = "jdk".equals(codecName)
+                ? new JdkCacheValueCodec(getClass().getClassLoader())
+                : new SmileCacheValueCodec(2048, Map.of("task", Task.class));
+        tasks = BenchmarkFixtures.sampleTasks(size);
+        encoded = codec.encode(tasks);
+        if (!tasks.equals(codec.decode(encoded))) {
+            throw new IllegalStateException("코덱 왕복 결과가 원본과 다릅니다: " + codecName);
+        }
+        System.out.printf("%n[CacheCodecBenchmark] codec=%s size=%d bytes=%d%n", codecName, size, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(tasks);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decode(encoded);
+    }
+}
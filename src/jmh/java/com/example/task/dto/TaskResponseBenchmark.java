@@ -0,0 +1,90 @@
+package com.example.task.dto;
+
+import com.example.task.BenchmarkFixtures;
+import com.example.task.entity.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 응답을 만드는 과정(Task -> TaskResponseDto 변환, JSON 직렬화)에 걸리는 시간을 측정하는 벤치마크입니다.
+ * <p>
+ * ObjectMapper는 스프링 부트 기본 설정과 같게 만듭니다. (JavaTimeModule 등록, 날짜를 ISO 문자열로 출력)
+ * 실행: {@code ./gradlew jmh -Pjmh.includes=TaskResponseBenchmark}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskResponseBenchmark {
+
+    /** 목록 크기 (20 = 기본 페이지 크기, 100 = 최대 페이지 크기, 10000 = 대용량 응답) */
+    @Param({"20", "100", "10000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Task> tasks;
+    private Map<Long, Long> viewCounts;
+    private TaskPageResponseDto page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        tasks = BenchmarkFixtures.sampleTasks(size);
+        viewCounts = new HashMap<>();
+        for (Task task : tasks) {
+            viewCounts.put(task.getId(), task.getId() * 7);
+        }
+        page = toPage();
+    }
+
+    /** 엔티티 목록을 응답 DTO 목록으로 변환합니다. */
+    @Benchmark
+    public TaskPageResponseDto map() {
+        return toPage();
+    }
+
+    /** 이미 만들어진 응답 DTO를 JSON으로 직렬화합니다. */
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    /** 변환과 직렬화를 이어서 수행합니다. (컨트롤러가 실제로 하는 일) */
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toPage());
+    }
+
+    private TaskPageResponseDto toPage() {
+        List<TaskResponseDto> content = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            content.add(new TaskResponseDto(task, viewCounts.getOrDefault(task.getId(), 0L)));
+        }
+        return new TaskPageResponseDto(content, tasks.get(tasks.size() - 1).getId(), true, content.size());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.task.service;
+
+import com.github.fppt.jedismock.RedisServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회수 카운터의 증가(상세 조회)와 일괄 읽기(목록 조회) 경로를 측정하는 벤치마크입니다.
+ * <p>
+ * 실제 Redis 대신 같은 프로세스 안에서 RESP 프로토콜을 처리하는 jedis-mock 서버를 띄우고,
+ * 애플리케이션과 같은 Lettuce 커넥션으로 붙습니다. 네트워크 지연이 거의 없으므로 절대값보다는
+ * 모드(sync / write-behind)와 로컬 캐시 설정 사이의 상대적인 차이를 보는 용도입니다.
+ * </p>
+ * <p>
+ * 실행: {@code ./gradlew jmh -Pjmh.includes=ViewCounterBenchmark}
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ViewCounterBenchmark {
+
+    /** 조회수 카운터 구현 (task.view-count.mode) */
+    @Param({"sync", "write-behind"})
+    public String mode;
+
+    /** 목록 조회 시 조회수 로컬 캐시 TTL (task.view-count.local-cache-ttl, 0이면 캐시하지 않음) */
+    @Param({"0", "1000"})
+    public long localCacheTtlMillis;
+
+    /** 조회 대상이 되는 Task ID 범위 */
+    private static final int TASK_COUNT = 10_000;
+    /** 목록 한 페이지의 크기 */
+    private static final int PAGE_SIZE = 20;
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private ViewCounter viewCounter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redisServer = RedisServer.newRedisServer().start();
+        connectionFactory = new LettuceConnectionFactory(redisServer.getHost(), redisServer.getBindPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        ViewCountReader reader = new ViewCountReader(redisTemplate, 500, Duration.ofMillis(localCacheTtlMillis), 10_000);
+        ViewRanking ranking = new ViewRanking(redisTemplate, Duration.ofDays(7), Duration.ofSeconds(30));
+        viewCounter = "sync".equals(mode)
+                ? new RedisViewCounter(redisTemplate, reader, ranking)
+                : new BufferedViewCounter(redisTemplate, reader, ranking, new SimpleMeterRegistry(), Duration.ofSeconds(1), 1000, 10_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        if (viewCounter instanceof BufferedViewCounter buffered) {
+            buffered.shutdown();
+        }
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    /** 상세 조회 한 건의 조회수 증가 */
+    @Benchmark
+    public long increment() {
+        return viewCounter.incrementAndGet(randomTaskId());
+    }
+
+    /** 목록 한 페이지(연속된 ID {@value #PAGE_SIZE}개)의 조회수 읽기 */
+    @Benchmark
+    public Object readPage() {
+        long first = randomTaskId();
+        List<Long> ids = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            ids.add(first + i);
+        }
+        return viewCounter.getCounts(ids);
+    }
+
+    private static long randomTaskId() {
+        return ThreadLocalRandom.current().nextLong(1, TASK_COUNT + 1);
+    }
+}
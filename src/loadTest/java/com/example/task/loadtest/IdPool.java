@@ -0,0 +1,44 @@
+package com.example.task.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지금 존재하는 Task ID 모음입니다. 상세 조회/수정은 여기서 임의의 ID를 고르고, 삭제는 ID를 꺼내 다시 쓰지 않습니다.
+ * 생성 응답을 받은 스레드들이 동시에 추가하므로 동기화합니다.
+ */
+final class IdPool {
+
+    private final List<Long> ids = new ArrayList<>();
+
+    synchronized void add(long id) {
+        ids.add(id);
+    }
+
+    synchronized int size() {
+        return ids.size();
+    }
+
+    /**
+     * @return 임의의 ID. 비어 있으면 null
+     */
+    synchronized Long pick() {
+        return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    /**
+     * 임의의 ID를 꺼냅니다. (꺼낸 ID는 다시 고르지 않습니다)
+     * @return 꺼낸 ID. 비어 있으면 null
+     */
+    synchronized Long take() {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(ids.size());
+        Long id = ids.get(index);
+        ids.set(index, ids.get(ids.size() - 1));
+        ids.remove(ids.size() - 1);
+        return id;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.task.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 결과를 모아 k6 summary.json과 같은 형식으로 저장합니다.
+ * <p>
+ * 전체 값은 k6와 같은 이름(http_reqs, http_req_duration, http_req_failed, dropped_iterations)으로,
+ * 엔드포인트별 값은 k6의 태그 하위 지표처럼 {@code http_req_duration{endpoint:list}} 이름으로 넣습니다.
+ * 따라서 load-test.js의 결과와 같은 도구(jq 등)로 읽고 비교할 수 있습니다.
+ * 응답 시간은 HdrHistogram(유효숫자 3자리)에 마이크로초로 기록하고 밀리초로 출력합니다.
+ * </p>
+ */
+final class LoadReport {
+
+    private static final List<String> TREND_STATS = List.of("avg", "min", "med", "max", "p(90)", "p(95)", "p(99)");
+
+    private final Stats total = new Stats();
+    private final Map<String, Stats> endpoints = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    // 응답 상태 코드별 수 (연결 오류/시간 초과는 0)
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * @param endpoint     결과를 모을 이름
+     * @param latencyNanos 예정된 출발 시각부터 응답을 다 받을 때까지의 시간
+     * @param status       응답 상태 코드. 연결 오류/시간 초과면 0
+     */
+    void record(String endpoint, long latencyNanos, int status) {
+        // k6 http_req_failed와 같은 기준 (연결 오류 또는 4xx/5xx)
+        boolean failed = status == 0 || status >= 400;
+        statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+        long micros = Math.max(1L, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        total.record(micros, failed);
+        endpoints.computeIfAbsent(endpoint, name -> new Stats()).record(micros, failed);
+    }
+
+    /**
+     * 처리 중인 요청이 한도를 넘어 보내지 못한 요청을 셉니다.
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    void write(Path file, Duration elapsed, Map<String, Object> options) throws IOException {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("http_reqs", counter(total.histogram.getTotalCount(), elapsed));
+        metrics.put("http_req_duration", trend(total.histogram));
+        metrics.put("http_req_failed", rate(total));
+        metrics.put("dropped_iterations", counter(dropped.sum(), elapsed));
+        for (Map.Entry<String, Stats> entry : new TreeMap<>(endpoints).entrySet()) {
+            String tag = "{endpoint:" + entry.getKey() + "}";
+            metrics.put("http_reqs" + tag, counter(entry.getValue().histogram.getTotalCount(), elapsed));
+            metrics.put("http_req_duration" + tag, trend(entry.getValue().histogram));
+            metrics.put("http_req_failed" + tag, rate(entry.getValue()));
+        }
+
+        Map<String, Object> allOptions = new LinkedHashMap<>();
+        allOptions.put("summaryTrendStats", TREND_STATS);
+        allOptions.put("summaryTimeUnit", "");
+        allOptions.put("noColor", false);
+        allOptions.putAll(options);
+
+        Map<String, Object> rootGroup = new LinkedHashMap<>();
+        rootGroup.put("name", "");
+        rootGroup.put("path", "");
+        rootGroup.put("id", "d41d8cd98f00b204e9800998ecf8427e");
+        rootGroup.put("groups", List.of());
+        rootGroup.put("checks", List.of());
+
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("isStdOutTTY", false);
+        state.put("isStdErrTTY", false);
+        state.put("testRunDurationMs", (double) elapsed.toMillis());
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("root_group", rootGroup);
+        summary.put("options", allOptions);
+        summary.put("state", state);
+        summary.put("metrics", metrics);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), summary);
+    }
+
+    /**
+     * 엔드포인트별 요약을 표로 출력합니다.
+     */
+    void print(PrintStream out, Duration elapsed) {
+        String format = "%-28s %9s %9s %7s %9s %9s %9s %9s%n";
+        out.printf(format, "endpoint", "count", "req/s", "fail%", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (Map.Entry<String, Stats> entry : new TreeMap<>(endpoints).entrySet()) {
+            printRow(out, format, entry.getKey(), entry.getValue(), elapsed);
+        }
+        printRow(out, format, "(total)", total, elapsed);
+        StringBuilder codes = new StringBuilder("status:");
+        new TreeMap<>(statuses).forEach((code, count) -> codes.append(' ').append(code).append('=').append(count.sum()));
+        out.println(codes);
+        if (dropped.sum() > 0) {
+            out.printf("dropped (max-in-flight 초과): %d%n", dropped.sum());
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private static void printRow(PrintStream out, String format, String name, Stats stats, Duration elapsed) {
+        Histogram histogram = stats.histogram;
+        long count = histogram.getTotalCount();
+        out.printf(format, name, count,
+                String.format("%.1f", count / seconds(elapsed)),
+                String.format("%.2f", count == 0 ? 0.0 : stats.failed.sum() * 100.0 / count),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private static Map<String, Object> counter(long count, Duration elapsed) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", count);
+        values.put("rate", count / seconds(elapsed));
+        return metric("counter", "default", values);
+    }
+
+    private static Map<String, Object> trend(Histogram histogram) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        boolean empty = histogram.getTotalCount() == 0;
+        values.put("avg", empty ? 0.0 : histogram.getMean() / 1000.0);
+        values.put("min", empty ? 0.0 : histogram.getMinValue() / 1000.0);
+        values.put("med", histogram.getValueAtPercentile(50) / 1000.0);
+        values.put("max", histogram.getMaxValue() / 1000.0);
+        values.put("p(90)", histogram.getValueAtPercentile(90) / 1000.0);
+        values.put("p(95)", histogram.getValueAtPercentile(95) / 1000.0);
+        values.put("p(99)", histogram.getValueAtPercentile(99) / 1000.0);
+        return metric("trend", "time", values);
+    }
+
+    private static Map<String, Object> rate(Stats stats) {
+        long count = stats.histogram.getTotalCount();
+        long failed = stats.failed.sum();
+        Map<String, Object> values = new LinkedHashMap<>();
+        // k6의 rate 지표는 참(실패)인 값을 passes로 셉니다
+        values.put("rate", count == 0 ? 0.0 : (double) failed / count);
+        values.put("passes", failed);
+        values.put("fails", count - failed);
+        return metric("rate", "default", values);
+    }
+
+    private static Map<String, Object> metric(String type, String contains, Map<String, Object> values) {
+        Map<String, Object> metric = new LinkedHashMap<>();
+        metric.put("type", type);
+        metric.put("contains", contains);
+        metric.put("values", values);
+        return metric;
+    }
+
+    private static double seconds(Duration elapsed) {
+        return Math.max(1L, elapsed.toMillis()) / 1000.0;
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+
+    private static final class Stats {
+        private final ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder failed = new LongAdder();
+
+        private void record(long micros, boolean failed) {
+            histogram.recordValue(micros);
+            if (failed) {
+                this.failed.increment();
+            }
+        }
+    }
+}
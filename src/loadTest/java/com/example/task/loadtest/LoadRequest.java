@@ -0,0 +1,30 @@
+package com.example.task.loadtest;
+
+/**
+ * 부하 테스트에서 보내는 요청 하나입니다.
+ */
+final class LoadRequest {
+
+    private final String endpoint;
+    private final String method;
+    private final String path;
+    private final String body;
+    private final boolean createsTask;
+
+    LoadRequest(String endpoint, String method, String path, String body, boolean createsTask) {
+        this.endpoint = endpoint;
+        this.method = method;
+        this.path = path;
+        this.body = body;
+        this.createsTask = createsTask;
+    }
+
+    /** 결과를 모으는 이름 (summary.json의 endpoint 태그) */
+    String getEndpoint() { return endpoint; }
+    String getMethod() { return method; }
+    String getPath() { return path; }
+    /** JSON 본문. 없으면 null */
+    String getBody() { return body; }
+    /** 성공하면 응답의 id를 이후 요청에서 쓸 수 있도록 모아 둘지 여부 */
+    boolean createsTask() { return createsTask; }
+}
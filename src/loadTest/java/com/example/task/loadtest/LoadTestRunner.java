@@ -0,0 +1,251 @@
+package com.example.task.loadtest;
+
+import com.example.task.DemoApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 외부 환경 없이 실행하는 부하 테스트입니다. (./gradlew loadTest)
+ * <p>
+ * 프로세스 안에 Redis(jedis-mock)와 H2(PostgreSQL 모드) 인메모리 DB를 띄우고 애플리케이션을 임의 포트로 기동한 뒤,
+ * Task를 미리 만들어 두고 정해진 속도로 요청을 보냅니다. 요청은 앞 요청의 응답을 기다리지 않고 예정된 시각에 출발하며(open model),
+ * 응답 시간도 예정된 출발 시각부터 잽니다. 서버가 느려졌을 때 보내는 요청 수가 줄어 결과가 좋아 보이는 일을 막기 위해서입니다.
+ * 처리 중인 요청이 {@code max-in-flight}를 넘으면 그 요청은 보내지 않고 dropped_iterations로 셉니다.
+ * </p>
+ * <p>
+ * 설정 (-PloadTest.이름=값):
+ * <ul>
+ *     <li>rate: 초당 요청 수 (기본 50)</li>
+ *     <li>duration / warmup: 측정 시간 (기본 60s) / 측정 전에 같은 속도로 보내고 버리는 시간 (기본 10s)</li>
+ *     <li>mix: 엔드포인트별 비율 (기본 {@value TrafficMix#DEFAULT_MIX})</li>
+ *     <li>replay: 기록한 요청 파일(JSONL, {@link RecordedTraffic} 참고). 지정하면 mix 대신 이 요청을 순서대로 보냅니다.</li>
+ *     <li>seed-tasks: 시작 전에 만들어 둘 Task 수 (기본 1000)</li>
+ *     <li>max-in-flight: 동시에 처리 중인 요청 수의 상한 (기본 1000)</li>
+ *     <li>out: 결과 파일 (기본 build/results/loadtest/summary.json)</li>
+ *     <li>app-args: 애플리케이션 설정 (예: "--task.view-count.mode=write-behind --spring.threads.virtual.enabled=true")</li>
+ * </ul>
+ * DB와 Redis가 운영 환경과 다르므로 절대값은 운영 지표와 비교할 수 없습니다. 같은 설정으로 변경 전후를 비교하는 용도입니다.
+ * jedis-mock은 명령을 하나씩 직렬로 처리해 실제 Redis보다 훨씬 느리므로, 속도를 높이면 동시 처리 한도(503)나 DB 커넥션 풀이 먼저 포화됩니다.
+ * 또 Lua 스크립트를 원자적으로 실행하지 않아, 목록 인덱스를 다시 만드는 동안 드물게 경고가 남고 DB 조회로 대신 응답합니다.
+ * (PostgreSQL 전용 기능인 전문 검색과 변경 피드는 이 환경에서 동작하지 않습니다)
+ * </p>
+ */
+public final class LoadTestRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SEED_CONCURRENCY = 16;
+    private static final int SEED_ATTEMPTS = 10;
+    private static final Duration SEED_RETRY_DELAY = Duration.ofMillis(100);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final IdPool ids = new IdPool();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final URI baseUri;
+    private final int maxInFlight;
+
+    private LoadTestRunner(URI baseUri, int maxInFlight) {
+        this.baseUri = baseUri;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(setting("rate", "50"));
+        Duration duration = DurationStyle.detectAndParse(setting("duration", "60s"));
+        Duration warmup = DurationStyle.detectAndParse(setting("warmup", "10s"));
+        String mix = setting("mix", TrafficMix.DEFAULT_MIX);
+        String replay = setting("replay", null);
+        int seedTasks = Integer.parseInt(setting("seed-tasks", "1000"));
+        int maxInFlight = Integer.parseInt(setting("max-in-flight", "1000"));
+        Path out = Path.of(setting("out", "build/results/loadtest/summary.json"));
+        String appArgs = setting("app-args", "");
+
+        RedisServer redis = RedisServer.newRedisServer().start();
+        ConfigurableApplicationContext context = startApplication(redis, appArgs);
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestRunner runner = new LoadTestRunner(URI.create("http://127.0.0.1:" + port), maxInFlight);
+            TrafficMix defaultMix = TrafficMix.parse(mix, runner.ids);
+            TrafficSource traffic = replay != null
+                    ? RecordedTraffic.load(Path.of(replay), runner.ids, runner.objectMapper)
+                    : defaultMix;
+
+            System.out.printf("Task %d건 생성 중...%n", seedTasks);
+            runner.seed(defaultMix, seedTasks);
+            System.out.printf("워밍업 %s, 측정 %s, %.0f req/s (%s)%n", warmup, duration, rate,
+                    replay != null ? "replay=" + replay : "mix=" + mix);
+            runner.run(traffic, rate, warmup, new LoadReport());
+            LoadReport report = new LoadReport();
+            runner.run(traffic, rate, duration, report);
+
+            Map<String, Object> options = new LinkedHashMap<>();
+            options.put("rate", rate);
+            options.put("duration", duration.toString());
+            options.put("warmup", warmup.toString());
+            options.put(replay != null ? "replay" : "mix", replay != null ? replay : mix);
+            options.put("seedTasks", seedTasks);
+            options.put("maxInFlight", maxInFlight);
+            options.put("appArgs", appArgs);
+            report.write(out, duration, options);
+            report.print(System.out, duration);
+            System.out.println("결과: " + out.toAbsolutePath());
+        } finally {
+            context.close();
+            redis.stop();
+        }
+        // HttpClient/jedis-mock의 남은 스레드를 기다리지 않고 끝냅니다
+        System.exit(0);
+    }
+
+    // --- Private Helper Methods ---
+
+    private static String setting(String name, String defaultValue) {
+        String value = System.getProperty("loadTest." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    /**
+     * 애플리케이션을 인메모리 DB와 프로세스 내 Redis로 기동합니다.
+     * application.yml보다 우선하도록 명령행 인자로 넘기며, app-args의 같은 설정이 있으면 그 값을 사용합니다.
+     */
+    private static ConfigurableApplicationContext startApplication(RedisServer redis, String appArgs) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql", "warn");
+        properties.put("spring.data.redis.host", redis.getHost());
+        properties.put("spring.data.redis.port", String.valueOf(redis.getBindPort()));
+        // jedis-mock이 XREAD의 BLOCK 뒤 COUNT 순서를 처리하지 못하므로 변경 피드는 끕니다
+        properties.put("task.changes.enabled", "false");
+        for (String arg : appArgs.trim().split("\\s+")) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                properties.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        return SpringApplication.run(DemoApplication.class, args.toArray(String[]::new));
+    }
+
+    /**
+     * 측정 전에 Task를 만들어 둡니다. 상세 조회/수정/삭제가 고를 ID가 됩니다.
+     */
+    private void seed(TrafficMix mix, int count) throws InterruptedException {
+        Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                permits.acquire();
+                LoadRequest request = mix.create();
+                executor.execute(() -> {
+                    try {
+                        // 기동 직후에는 동시 처리 한도(ConcurrencyLimitFilter)에 걸릴 수 있으므로 잠시 뒤 다시 보냅니다
+                        for (int attempt = 0; attempt < SEED_ATTEMPTS && send(request, System.nanoTime(), null) == 503; attempt++) {
+                            LockSupport.parkNanos(SEED_RETRY_DELAY.toNanos());
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        if (ids.size() < count) {
+            System.out.printf("경고: Task %d건 중 %d건만 생성되었습니다.%n", count, ids.size());
+        }
+    }
+
+    /**
+     * duration 동안 초당 rate개의 요청을 예정된 시각에 보내고, 보낸 요청이 모두 끝날 때까지 기다립니다.
+     */
+    private void run(TrafficSource traffic, double rate, Duration duration, LoadReport report) {
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduledAt = start; scheduledAt < end; scheduledAt += intervalNanos) {
+                long wait = scheduledAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (inFlight.get() >= maxInFlight) {
+                    report.recordDropped();
+                    continue;
+                }
+                LoadRequest request = traffic.next();
+                long requestScheduledAt = scheduledAt;
+                inFlight.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        send(request, requestScheduledAt, report);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * 요청 하나를 보내고 결과를 기록합니다. 생성에 성공하면 응답의 id를 모아 둡니다.
+     * @param report 결과를 기록할 곳. null이면 기록하지 않습니다.
+     * @return 응답 상태 코드. 연결 오류/시간 초과면 0
+     */
+    private int send(LoadRequest request, long scheduledAt, LoadReport report) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(request.getPath())).timeout(REQUEST_TIMEOUT);
+        if (request.getBody() != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(request.getMethod(), HttpRequest.BodyPublishers.ofString(request.getBody()));
+        } else {
+            builder.method(request.getMethod(), HttpRequest.BodyPublishers.noBody());
+        }
+
+        int status = 0;
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            if (status < 300 && request.createsTask()) {
+                JsonNode id = objectMapper.readTree(response.body()).get("id");
+                if (id != null && id.canConvertToLong()) {
+                    ids.add(id.asLong());
+                }
+            }
+        } catch (IOException e) {
+            // 연결 실패/시간 초과는 실패로 기록합니다
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (report != null) {
+                report.record(request.getEndpoint(), System.nanoTime() - scheduledAt, status);
+            }
+        }
+        return status;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.task.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기록해 둔 요청(JSONL)을 순서대로 다시 보냅니다. 끝까지 보내면 처음부터 반복합니다.
+ * <p>
+ * 한 줄에 요청 하나이며, method와 path는 필수, body(JSON 값)와 name(결과를 모을 이름)은 선택입니다.
+ * <pre>
+ * {"method":"GET","path":"/api/tasks?size=20"}
+ * {"method":"POST","path":"/api/tasks","body":{"title":"Task 1","description":"Load test task"}}
+ * {"method":"PATCH","path":"/api/tasks/{id}","body":{"status":"DONE"},"name":"patch"}
+ * </pre>
+ * 기록한 DB와 ID가 다르므로, path의 {@code {id}}는 지금 존재하는 Task ID로 바꿔 보냅니다. (DELETE는 꺼낸 ID를 다시 쓰지 않습니다)
+ * name이 없으면 "GET /api/tasks/{id}"처럼 메서드와 경로(숫자는 {id}, 쿼리 제외)로 묶습니다. 빈 줄과 #으로 시작하는 줄은 건너뜁니다.
+ * </p>
+ */
+final class RecordedTraffic implements TrafficSource {
+
+    private static final String ID_PLACEHOLDER = "{id}";
+
+    private final List<Template> templates;
+    private final IdPool ids;
+    private int position;
+
+    private RecordedTraffic(List<Template> templates, IdPool ids) {
+        this.templates = templates;
+        this.ids = ids;
+    }
+
+    static RecordedTraffic load(Path file, IdPool ids, ObjectMapper objectMapper) throws IOException {
+        List<Template> templates = new ArrayList<>();
+        int lineNumber = 0;
+        for (String line : Files.readAllLines(file)) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.hasNonNull("method") || !node.hasNonNull("path")) {
+                throw new IllegalArgumentException(file + ":" + lineNumber + " - method와 path가 필요합니다.");
+            }
+            String method = node.get("method").asText().toUpperCase();
+            String path = node.get("path").asText();
+            JsonNode body = node.get("body");
+            String name = node.hasNonNull("name") ? node.get("name").asText() : method + " " + normalize(path);
+            templates.add(new Template(name, method, path,
+                    body == null || body.isNull() ? null : (body.isTextual() ? body.asText() : body.toString())));
+        }
+        if (templates.isEmpty()) {
+            throw new IllegalArgumentException(file + "에 요청이 없습니다.");
+        }
+        return new RecordedTraffic(templates, ids);
+    }
+
+    @Override
+    public LoadRequest next() {
+        // {id}를 채울 Task가 없으면 ID가 필요 없는 다음 요청으로 넘어갑니다.
+        for (int attempt = 0; attempt < templates.size(); attempt++) {
+            Template template = templates.get(position);
+            position = (position + 1) % templates.size();
+            LoadRequest request = template.resolve(ids);
+            if (request != null) {
+                return request;
+            }
+        }
+        throw new IllegalStateException("남은 Task가 없어 보낼 수 있는 요청이 없습니다. 생성 요청을 함께 기록하세요.");
+    }
+
+    /**
+     * 경로의 숫자 부분을 {id}로 바꾸고 쿼리를 뺍니다. (예: /api/tasks/42?version=3 -> /api/tasks/{id})
+     */
+    private static String normalize(String path) {
+        int query = path.indexOf('?');
+        String withoutQuery = query >= 0 ? path.substring(0, query) : path;
+        return withoutQuery.replaceAll("/\\d+(?=/|$)", "/" + ID_PLACEHOLDER);
+    }
+
+    private static final class Template {
+        private final String name;
+        private final String method;
+        private final String path;
+        private final String body;
+
+        private Template(String name, String method, String path, String body) {
+            this.name = name;
+            this.method = method;
+            this.path = path;
+            this.body = body;
+        }
+
+        private LoadRequest resolve(IdPool ids) {
+            String resolved = path;
+            if (path.contains(ID_PLACEHOLDER)) {
+                Long id = "DELETE".equals(method) ? ids.take() : ids.pick();
+                if (id == null) {
+                    return null;
+                }
+                resolved = path.replace(ID_PLACEHOLDER, String.valueOf(id));
+            }
+            boolean createsTask = "POST".equals(method) && "/api/tasks".equals(normalize(path));
+            return new LoadRequest(name, method, resolved, body, createsTask);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.task.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 엔드포인트별 비율(예: list=50,detail=30,create=10,update=7,delete=3)에 따라 요청을 만듭니다.
+ * <ul>
+ *     <li>list: GET /api/tasks (첫 페이지, load-test.js와 같음)</li>
+ *     <li>detail: GET /api/tasks/{id}</li>
+ *     <li>create: POST /api/tasks</li>
+ *     <li>update: PUT /api/tasks/{id}</li>
+ *     <li>delete: DELETE /api/tasks/{id}</li>
+ * </ul>
+ * ID가 필요한 요청은 {@link IdPool}에서 고르며, 남은 Task가 없으면 대신 생성 요청을 보냅니다.
+ */
+final class TrafficMix implements TrafficSource {
+
+    static final String DEFAULT_MIX = "list=50,detail=30,create=10,update=7,delete=3";
+
+    private static final Set<String> ENDPOINTS = Set.of("list", "detail", "create", "update", "delete");
+
+    private final List<String> endpoints = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private final int totalWeight;
+    private final IdPool ids;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private TrafficMix(String mix, IdPool ids) {
+        int total = 0;
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2 || !ENDPOINTS.contains(pair[0].trim())) {
+                throw new IllegalArgumentException("잘못된 mix 항목입니다: '" + part + "' (사용 가능: " + ENDPOINTS + ")");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight <= 0) {
+                continue;
+            }
+            total += weight;
+            endpoints.add(pair[0].trim());
+            cumulativeWeights.add(total);
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("mix에 비율이 0보다 큰 항목이 없습니다: " + mix);
+        }
+        this.totalWeight = total;
+        this.ids = ids;
+    }
+
+    static TrafficMix parse(String mix, IdPool ids) {
+        return new TrafficMix(mix, ids);
+    }
+
+    @Override
+    public LoadRequest next() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        int index = 0;
+        while (cumulativeWeights.get(index) <= roll) {
+            index++;
+        }
+        return switch (endpoints.get(index)) {
+            case "list" -> new LoadRequest("list", "GET", "/api/tasks", null, false);
+            case "detail" -> withId(ids.pick(), id -> new LoadRequest("detail", "GET", "/api/tasks/" + id, null, false));
+            case "update" -> withId(ids.pick(), id -> new LoadRequest("update", "PUT", "/api/tasks/" + id,
+                    "{\"title\":\"Task " + id + " updated\",\"description\":\"Load test task\",\"status\":\"IN_PROGRESS\"}",
+                    false));
+            case "delete" -> withId(ids.take(), id -> new LoadRequest("delete", "DELETE", "/api/tasks/" + id, null, false));
+            default -> create();
+        };
+    }
+
+    /**
+     * 생성 요청을 만듭니다. (미리 Task를 채울 때도 사용합니다)
+     */
+    LoadRequest create() {
+        return new LoadRequest("create", "POST", "/api/tasks",
+                "{\"title\":\"Task " + sequence.incrementAndGet() + "\",\"description\":\"Load test task\"}", true);
+    }
+
+    private LoadRequest withId(Long id, LongFunction<LoadRequest> request) {
+        return id == null ? create() : request.apply(id);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.task.loadtest;
+
+/**
+ * 다음에 보낼 요청을 만듭니다. 예정된 시각마다 요청을 보내는 스레드 하나에서만 호출합니다.
+ */
+interface TrafficSource {
+
+    LoadRequest next();
+}
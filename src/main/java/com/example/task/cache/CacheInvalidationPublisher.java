@@ -0,0 +1,14 @@
+package com.example.task.cache;
+
+/**
+ * 다른 파드에 L1 캐시 무효화를 알리는 역할입니다.
+ */
+@FunctionalInterface
+interface CacheInvalidationPublisher {
+
+    /**
+     * @param cacheName 캐시 이름
+     * @param key       무효화할 키 (문자열화된 값)
+     */
+    void publish(String cacheName, String key);
+}
@@ -0,0 +1,93 @@
+package com.example.task.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 미스 시 여러 파드 중 한 곳만 값을 다시 만들도록 하는 Redis 임대(lease)입니다.
+ * <p>
+ * 캐시를 다시 채우려는 파드는 {@code SET key token NX PX ttl}로 임대를 얻습니다.
+ * 임대를 얻지 못한 파드는 {@code wait} 동안 L2(Redis)에 값이 채워지기를 기다리고,
+ * 그래도 채워지지 않으면 (임대를 가진 파드가 죽었거나 느린 경우) 직접 로더를 실행합니다.
+ * 임대는 자신이 얻은 것(토큰이 같은 것)만 해제하며, 해제되지 않더라도 {@code ttl}이 지나면 사라집니다.
+ * </p>
+ */
+public class CacheLoadLease {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheLoadLease.class);
+
+    /** 임대 키 접두사 (task:cache:lease:{캐시이름}:{키}) */
+    public static final String KEY_PREFIX = "task:cache:lease:";
+
+    /** Redis에 연결할 수 없을 때 임대 없이 진행한다는 뜻의 토큰입니다. */
+    static final String NO_LEASE = "";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    /**
+     * @param redisTemplate Redis 연결
+     * @param ttl           임대 유지 시간 (로더 실행 시간보다 넉넉하게)
+     * @param waitTimeout   임대를 얻지 못했을 때 다른 파드의 결과를 기다리는 최대 시간
+     * @param pollInterval  기다리는 동안 L2를 다시 확인하는 간격
+     */
+    public CacheLoadLease(StringRedisTemplate redisTemplate, Duration ttl, Duration waitTimeout, Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * 임대를 얻습니다.
+     * @return 해제할 때 사용할 토큰, 다른 파드가 이미 임대 중이면 null
+     */
+    String tryAcquire(String cacheName, String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey(cacheName, key), token, ttl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (DataAccessException e) {
+            // 임대를 확인할 수 없으면 기다리지 않고 직접 로드합니다. (파드 내 single-flight는 그대로 적용됩니다)
+            log.warn("캐시 임대를 얻지 못했습니다. 임대 없이 로드합니다. cache={}, key={}", cacheName, key, e);
+            return NO_LEASE;
+        }
+    }
+
+    void release(String cacheName, String key, String token) {
+        if (NO_LEASE.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(cacheName, key)), token);
+        } catch (DataAccessException e) {
+            log.warn("캐시 임대를 해제하지 못했습니다. TTL이 지나면 사라집니다. cache={}, key={}", cacheName, key, e);
+        }
+    }
+
+    Duration getWaitTimeout() {
+        return waitTimeout;
+    }
+
+    Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    private static String leaseKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.task.cache;
+
+/**
+ * L2(Redis) 캐시에 값을 저장할 때 사용하는 직렬화 방식입니다.
+ * <p>
+ * 설정값 {@code task.cache.codec}으로 구현체를 고릅니다.
+ * <ul>
+ *     <li>{@code smile} (기본값): 버전 헤더 + 바이너리 JSON(Smile), 일정 크기 이상이면 압축 ({@link SmileCacheValueCodec})</li>
+ *     <li>{@code jdk}: 기존 Java 직렬화 ({@link JdkCacheValueCodec})</li>
+ * </ul>
+ * </p>
+ */
+public interface CacheValueCodec {
+
+    /**
+     * 값을 바이트 배열로 변환합니다.
+     * @param value 캐시에 저장할 값
+     * @return 직렬화된 바이트 배열
+     */
+    byte[] encode(Object value);
+
+    /**
+     * 바이트 배열을 값으로 되돌립니다.
+     * 다른 버전의 애플리케이션이 저장한 값처럼 해석할 수 없는 데이터는 예외 대신 null을 반환하며,
+     * 캐시는 이를 미스로 취급해 DB에서 다시 읽어 덮어씁니다.
+     * @param bytes 캐시에서 읽은 바이트 배열
+     * @return 복원된 값 (해석할 수 없으면 null)
+     */
+    Object decode(byte[] bytes);
+}
@@ -0,0 +1,25 @@
+package com.example.task.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * {@link CacheValueCodec}을 RedisCacheManager의 값 직렬화기로 연결하는 어댑터입니다.
+ */
+public class CacheValueCodecRedisSerializer implements RedisSerializer<Object> {
+
+    private final CacheValueCodec codec;
+
+    public CacheValueCodecRedisSerializer(CacheValueCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        return codec.encode(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        return bytes == null ? null : codec.decode(bytes);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.task.cache;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 기존 방식(Java 직렬화)으로 캐시 값을 저장하는 코덱입니다. (task.cache.codec=jdk)
+ * 새 코덱으로 전환한 뒤 문제가 생겼을 때 되돌리기 위한 용도로 남겨 둡니다.
+ */
+public class JdkCacheValueCodec implements CacheValueCodec {
+
+    private final JdkSerializationRedisSerializer serializer;
+
+    public JdkCacheValueCodec(ClassLoader classLoader) {
+        this.serializer = new JdkSerializationRedisSerializer(classLoader);
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return serializer.serialize(value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try {
+            return serializer.deserialize(bytes);
+        } catch (SerializationException e) {
+            // 클래스 구조가 바뀌어 읽을 수 없는 값은 미스로 처리합니다.
+            return null;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.task.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 값을 버전 헤더 + Smile(바이너리 JSON) 형식으로 저장하는 코덱입니다. (task.cache.codec=smile)
+ * <p>
+ * 저장 형식은 다음과 같습니다.
+ * <pre>
+ * [magic 'T','C'][format 1byte][flags 1byte][schema 4byte] + 본문
+ * 본문 = [타입 별칭(writeUTF)][Smile 데이터]   (flags의 압축 비트가 켜져 있으면 본문 전체가 Deflate 압축됨)
+ * </pre>
+ * schema 값은 등록된 클래스들의 필드 이름과 타입으로 계산한 지문(CRC32)입니다.
+ * 엔티티 구조가 바뀐 새 버전과 이전 버전이 함께 떠 있는 배포 중에도, 지문이 다른 값은 미스로 처리되므로
+ * 서로의 캐시 값을 잘못 읽지 않습니다.
+ * </p>
+ * <p>
+ * Java 직렬화와 달리 클래스 이름 대신 짧은 별칭만 저장하며, 등록된 타입(과 그 타입의 List)만 저장할 수 있습니다.
+ * </p>
+ */
+public class SmileCacheValueCodec implements CacheValueCodec {
+
+    private static final byte MAGIC_1 = 'T';
+    private static final byte MAGIC_2 = 'C';
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_COMPRESSED = 0x01;
+    private static final int HEADER_LENGTH = 8;
+
+    private static final String NULL_ALIAS = "null";
+    private static final String LIST_SUFFIX = "[]";
+
+    private final ObjectMapper mapper;
+    private final int compressThreshold;
+    private final int schemaFingerprint;
+    private final Map<Class<?>, String> aliasesByType = new HashMap<>();
+    private final Map<String, JavaType> typesByAlias = new HashMap<>();
+
+    /**
+     * @param compressThreshold 본문이 이 크기(바이트) 이상이면 압축합니다. (0 이하면 압축하지 않음)
+     * @param types             저장할 수 있는 타입과 별칭 (별칭 -> 클래스)
+     */
+    public SmileCacheValueCodec(int compressThreshold, Map<String, Class<?>> types) {
+        this.mapper = SmileMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.compressThreshold = compressThreshold;
+        types.forEach((alias, type) -> {
+            aliasesByType.put(type, alias);
+            typesByAlias.put(alias, mapper.constructType(type));
+            typesByAlias.put(alias + LIST_SUFFIX, mapper.getTypeFactory().constructCollectionType(List.class, type));
+        });
+        this.schemaFingerprint = fingerprint(types);
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            String alias = aliasOf(value);
+            ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(256);
+            DataOutputStream body = new DataOutputStream(bodyBytes);
+            body.writeUTF(alias);
+            if (!NULL_ALIAS.equals(alias)) {
+                mapper.writeValue((OutputStream) body, value);
+            }
+            body.flush();
+
+            byte[] payload = bodyBytes.toByteArray();
+            byte flags = 0;
+            if (compressThreshold > 0 && payload.length >= compressThreshold) {
+                payload = deflate(payload);
+                flags |= FLAG_COMPRESSED;
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_LENGTH + payload.length);
+            DataOutputStream header = new DataOutputStream(out);
+            header.writeByte(MAGIC_1);
+            header.writeByte(MAGIC_2);
+            header.writeByte(FORMAT_VERSION);
+            header.writeByte(flags);
+            header.writeInt(schemaFingerprint);
+            header.write(payload);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값을 직렬화하지 못했습니다: " + value, e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_LENGTH
+                || bytes[0] != MAGIC_1 || bytes[1] != MAGIC_2 || bytes[2] != FORMAT_VERSION) {
+            return null;
+        }
+        int schema = ((bytes[4] & 0xff) << 24) | ((bytes[5] & 0xff) << 16) | ((bytes[6] & 0xff) << 8) | (bytes[7] & 0xff);
+        if (schema != schemaFingerprint) {
+            return null;
+        }
+        try {
+            byte[] payload = Arrays.copyOfRange(bytes, HEADER_LENGTH, bytes.length);
+            if ((bytes[3] & FLAG_COMPRESSED) != 0) {
+                payload = inflate(payload);
+            }
+            DataInputStream body = new DataInputStream(new ByteArrayInputStream(payload));
+            String alias = body.readUTF();
+            if (NULL_ALIAS.equals(alias)) {
+                return NullValue.INSTANCE;
+            }
+            JavaType type = typesByAlias.get(alias);
+            if (type == null) {
+                return null;
+            }
+            return mapper.readValue((InputStream) body, type);
+        } catch (IOException | DataFormatException e) {
+            return null;
+        }
+    }
+
+    /** 스키마 지문입니다. (테스트/벤치마크에서 헤더를 확인하는 용도) */
+    public int getSchemaFingerprint() {
+        return schemaFingerprint;
+    }
+
+    private String aliasOf(Object value) {
+        if (value == null || value instanceof NullValue) {
+            return NULL_ALIAS;
+        }
+        if (value instanceof List<?> list) {
+            // 빈 목록은 원소 타입을 알 수 없지만, 어떤 List 타입으로 읽어도 결과가 같으므로 아무 별칭이나 씁니다.
+            Class<?> elementType = list.isEmpty() ? aliasesByType.keySet().iterator().next() : list.get(0).getClass();
+            String alias = aliasesByType.get(elementType);
+            if (alias != null) {
+                return alias + LIST_SUFFIX;
+            }
+        } else {
+            String alias = aliasesByType.get(value.getClass());
+            if (alias != null) {
+                return alias;
+            }
+        }
+        throw new SerializationException("캐시 코덱에 등록되지 않은 타입입니다: " + value.getClass().getName());
+    }
+
+    private static int fingerprint(Map<String, Class<?>> types) {
+        CRC32 crc = new CRC32();
+        types.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    crc.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                    Arrays.stream(entry.getValue().getDeclaredFields())
+                            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                            .sorted(Comparator.comparing(Field::getName))
+                            .forEach(field -> crc.update((field.getName() + ":" + field.getType().getName())
+                                    .getBytes(StandardCharsets.UTF_8)));
+                });
+        return (int) crc.getValue();
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 데이터가 손상되었습니다.");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
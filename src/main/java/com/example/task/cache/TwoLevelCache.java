@@ -0,0 +1,363 @@
+package com.example.task.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 인스턴스 메모리(L1, Caffeine)와 Redis(L2)를 차례로 확인하는 2단 캐시입니다.
+ * <p>
+ * 조회는 L1 → L2 → 로더(DB) 순서로 진행하며, 아래 단계에서 찾은 값은 위 단계에 채워 넣습니다.
+ * 값을 바꾸거나 지우는 연산(put, evict, clear)은 L1/L2에 반영한 뒤
+ * 다른 파드가 자신의 L1에서 해당 키를 지우도록 Redis pub/sub으로 무효화 메시지를 보냅니다.
+ * </p>
+ * <p>
+ * L1 키는 L2와 같은 규칙(String.valueOf)으로 문자열화하여, 무효화 메시지의 키와 그대로 맞춰 씁니다.
+ * </p>
+ * <p>
+ * 로더를 받는 {@link #get(Object, Callable)}는 캐시 미스가 몰릴 때 DB가 같은 쿼리를 중복 실행하지 않도록 합니다.
+ * </p>
+ * <ul>
+ *     <li>single-flight: 파드 안에서는 키마다 로더를 하나만 실행하고, 동시에 들어온 요청은 그 결과를 기다려 함께 씁니다.</li>
+ *     <li>임대(lease, 선택): 여러 파드 중 Redis 임대를 얻은 한 곳만 로더를 실행하고, 나머지는 L2가 채워지기를 기다립니다.
+ *         ({@link CacheLoadLease})</li>
+ *     <li>stale-while-revalidate(선택): 무효화된 값을 {@code staleGrace} 동안 보관해 두었다가, 그 사이의 미스에는
+ *         이전 값을 바로 응답하고 새 값은 백그라운드에서 한 번만 다시 읽습니다.</li>
+ * </ul>
+ */
+public class TwoLevelCache implements org.springframework.cache.Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCache.class);
+
+    /** clear() 시 "모든 키"를 뜻하는 무효화 메시지 키입니다. */
+    static final String ALL_KEYS = "*";
+
+    private final String name;
+    private final Cache<String, ValueWrapper> l1;
+    private final org.springframework.cache.Cache l2;
+    private final CacheInvalidationPublisher publisher;
+    // 무효화된 직전 값 (stale-while-revalidate를 쓰지 않으면 null)
+    private final Cache<String, ValueWrapper> staleEntries;
+    // 다른 파드와 로드를 나누기 위한 임대 (쓰지 않으면 null)
+    private final CacheLoadLease lease;
+    private final Executor refreshExecutor;
+    // 키 -> 이 파드에서 진행 중인 로드
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter loaderCalls;
+    private final Counter coalescedLoads;
+    private final Counter loadedByOtherPod;
+    private final Counter staleServed;
+
+    TwoLevelCache(String name,
+                  Cache<String, ValueWrapper> l1,
+                  org.springframework.cache.Cache l2,
+                  CacheInvalidationPublisher publisher,
+                  Cache<String, ValueWrapper> staleEntries,
+                  CacheLoadLease lease,
+                  Executor refreshExecutor,
+                  MeterRegistry meterRegistry) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.publisher = publisher;
+        this.staleEntries = staleEntries;
+        this.lease = lease;
+        this.refreshExecutor = refreshExecutor;
+        this.l2Hits = Counter.builder("task.cache.l2.gets").tag("cache", name).tag("result", "hit")
+                .register(meterRegistry);
+        this.l2Misses = Counter.builder("task.cache.l2.gets").tag("cache", name).tag("result", "miss")
+                .register(meterRegistry);
+        // 캐시 미스를 어떻게 처리했는지: loader(직접 로드) / coalesced(진행 중인 로드를 기다림)
+        // / other-pod(다른 파드가 채운 L2 사용) / stale(무효화된 이전 값 응답)
+        this.loaderCalls = loadCounter(meterRegistry, name, "loader");
+        this.coalescedLoads = loadCounter(meterRegistry, name, "coalesced");
+        this.loadedByOtherPod = loadCounter(meterRegistry, name, "other-pod");
+        this.staleServed = loadCounter(meterRegistry, name, "stale");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = l1.getIfPresent(localKey);
+        if (wrapper != null) {
+            return wrapper;
+        }
+        wrapper = l2.get(key);
+        if (wrapper != null) {
+            l2Hits.increment();
+            l1.put(localKey, new SimpleValueWrapper(wrapper.get()));
+        } else {
+            l2Misses.increment();
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값이 요청한 타입 [" + type.getName() + "]이 아닙니다: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        String localKey = toLocalKey(key);
+        ValueWrapper stale = staleEntries == null ? null : staleEntries.getIfPresent(localKey);
+        if (stale != null) {
+            staleServed.increment();
+            refreshInBackground(key, localKey, valueLoader);
+            return (T) stale.get();
+        }
+        return (T) load(key, localKey, valueLoader);
+    }
+
+    /**
+     * 파드 안에서 키마다 하나의 로드만 실행합니다. 이미 진행 중인 로드가 있으면 그 결과를 기다립니다.
+     */
+    private Object load(Object key, String localKey, Callable<?> valueLoader) {
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(localKey, flight);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return await(existing, key, valueLoader);
+        }
+        try {
+            Object value = loadAndFill(key, localKey, valueLoader, flight);
+            flight.result.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, flight);
+        }
+    }
+
+    private Object loadAndFill(Object key, String localKey, Callable<?> valueLoader, Flight flight) {
+        String leaseToken = null;
+        if (lease != null) {
+            leaseToken = lease.tryAcquire(name, localKey);
+            if (leaseToken == null) {
+                ValueWrapper loaded = awaitOtherPod(key);
+                if (loaded != null) {
+                    loadedByOtherPod.increment();
+                    fillLocal(localKey, loaded.get(), flight);
+                    return loaded.get();
+                }
+                // 기다려도 채워지지 않았으면 임대를 가진 파드에 문제가 있는 것으로 보고 직접 로드합니다.
+            }
+        }
+        try {
+            Object value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            loaderCalls.increment();
+            // DB에서 새로 읽은 값을 채워 넣는 것이므로 다른 파드에 무효화를 보낼 필요는 없습니다.
+            // 로드하는 동안 이 키가 무효화되었다면 읽은 값이 이미 낡았을 수 있으므로 캐시에 넣지 않습니다.
+            if (!flight.invalidated) {
+                l2.put(key, value);
+            }
+            fillLocal(localKey, value, flight);
+            return value;
+        } finally {
+            if (leaseToken != null) {
+                lease.release(name, localKey, leaseToken);
+            }
+        }
+    }
+
+    /**
+     * 다른 파드가 임대를 가지고 로드하는 동안 L2에 값이 채워지기를 기다립니다.
+     * @return 채워진 값, 제한 시간 안에 채워지지 않으면 null
+     */
+    private ValueWrapper awaitOtherPod(Object key) {
+        long deadline = System.nanoTime() + lease.getWaitTimeout().toNanos();
+        long pollMillis = Math.max(1, lease.getPollInterval().toMillis());
+        while (System.nanoTime() - deadline < 0) {
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper wrapper = l2.get(key);
+            if (wrapper != null) {
+                return wrapper;
+            }
+        }
+        return null;
+    }
+
+    private Object await(Flight flight, Object key, Callable<?> valueLoader) {
+        try {
+            return flight.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private void refreshInBackground(Object key, String localKey, Callable<?> valueLoader) {
+        if (inFlight.containsKey(localKey)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, localKey, valueLoader);
+                } catch (RuntimeException e) {
+                    log.warn("캐시를 백그라운드에서 다시 채우지 못했습니다. cache={}, key={}", name, localKey, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 다시 채우는 작업이 밀려 있으면 이번에는 건너뜁니다. 유예 시간 안의 다음 미스가 다시 시도합니다.
+        }
+    }
+
+    private void fillLocal(String localKey, Object value, Flight flight) {
+        if (flight.invalidated) {
+            return;
+        }
+        l1.put(localKey, new SimpleValueWrapper(value));
+        if (staleEntries != null) {
+            staleEntries.invalidate(localKey);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        String localKey = toLocalKey(key);
+        cancelFlight(localKey);
+        l1.put(localKey, new SimpleValueWrapper(value));
+        if (staleEntries != null) {
+            staleEntries.invalidate(localKey);
+        }
+        publisher.publish(name, localKey);
+    }
+
+    /**
+     * 캐시에 값이 없을 때만 채워 넣습니다. DB에서 읽은 값을 채우는 용도이므로 무효화 메시지를 보내지 않습니다.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        l1.put(toLocalKey(key), new SimpleValueWrapper(existing != null ? existing.get() : value));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        String localKey = toLocalKey(key);
+        invalidateLocal(localKey);
+        publisher.publish(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = l2.evictIfPresent(key);
+        String localKey = toLocalKey(key);
+        invalidateLocal(localKey);
+        publisher.publish(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        invalidateLocal(ALL_KEYS);
+        publisher.publish(name, ALL_KEYS);
+    }
+
+    /**
+     * 다른 파드에서 받은 무효화 메시지를 이 파드의 L1에만 반영합니다.
+     * @param localKey 무효화할 키 ({@link #ALL_KEYS}면 전체)
+     */
+    void invalidateLocal(String localKey) {
+        if (ALL_KEYS.equals(localKey)) {
+            inFlight.keySet().forEach(this::cancelFlight);
+            if (staleEntries != null) {
+                staleEntries.putAll(l1.asMap());
+            }
+            l1.invalidateAll();
+        } else {
+            cancelFlight(localKey);
+            ValueWrapper previous = l1.asMap().remove(localKey);
+            if (previous != null && staleEntries != null) {
+                staleEntries.put(localKey, previous);
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 로드가 끝나도 그 결과를 캐시에 넣지 않도록 표시하고, 이후 요청은 새로 로드하도록 떼어냅니다.
+     * (이미 기다리고 있는 요청들은 그 결과를 그대로 받습니다.)
+     */
+    private void cancelFlight(String localKey) {
+        Flight flight = inFlight.remove(localKey);
+        if (flight != null) {
+            flight.invalidated = true;
+        }
+    }
+
+    private static Counter loadCounter(MeterRegistry meterRegistry, String cacheName, String source) {
+        return Counter.builder("task.cache.loads").tag("cache", cacheName).tag("source", source)
+                .description("캐시 미스 처리 방식별 횟수")
+                .register(meterRegistry);
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /** 한 키에 대해 진행 중인 로드 */
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.task.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link TwoLevelCache}를 만들어 관리하는 CacheManager입니다.
+ * <p>
+ * L2는 RedisCacheManager가 만든 캐시를 그대로 사용하고, 그 앞에 크기 제한이 있는 Caffeine L1을 붙입니다.
+ * 무효화 메시지는 {@link #INVALIDATION_CHANNEL} 채널로 주고받으며, 메시지 형식은 {@code 보낸파드ID|캐시이름|키}입니다.
+ * 자신이 보낸 메시지는 무시합니다. (이미 자신의 L1에는 반영되어 있기 때문입니다.)
+ * </p>
+ * <p>
+ * {@code staleGrace}가 0보다 크면 무효화된 값을 그 시간 동안 보관하고, 미스 시 이전 값을 응답하면서
+ * 백그라운드 스레드({@code cache-refresh})에서 다시 채웁니다.
+ * </p>
+ */
+public class TwoLevelCacheManager implements CacheManager, MessageListener, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+    /** 캐시 무효화 메시지를 주고받는 Redis pub/sub 채널입니다. */
+    public static final String INVALIDATION_CHANNEL = "task:cache:invalidation";
+
+    private final CacheManager l2CacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long l1MaxSize;
+    private final Duration l1Ttl;
+    private final Duration staleGrace;
+    private final CacheLoadLease lease;
+    private final ExecutorService refreshExecutor;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+    private final Counter invalidationsReceived;
+
+    public TwoLevelCacheManager(CacheManager l2CacheManager,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry,
+                                long l1MaxSize,
+                                Duration l1Ttl,
+                                Duration staleGrace,
+                                CacheLoadLease lease) {
+        this.l2CacheManager = l2CacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.l1MaxSize = l1MaxSize;
+        this.l1Ttl = l1Ttl;
+        this.staleGrace = staleGrace;
+        this.lease = lease;
+        // 백그라운드 갱신은 키마다 하나씩만 실행되므로 작은 풀로 충분합니다. 밀리면 갱신을 건너뜁니다.
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(100),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.invalidationsReceived = Counter.builder("task.cache.invalidations.received")
+                .description("다른 파드로부터 받은 L1 캐시 무효화 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        invalidationsReceived.increment();
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(parts[2]);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache l2 = l2CacheManager.getCache(name);
+        if (l2 == null) {
+            throw new IllegalArgumentException("L2 캐시를 찾을 수 없습니다: " + name);
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .recordStats()
+                .build();
+        // L1 적중/미스/제거 통계는 cache.gets, cache.evictions 등의 이름으로 actuator에 노출됩니다.
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, name, "tier", "l1");
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> staleEntries = staleGrace.isPositive()
+                ? Caffeine.newBuilder().maximumSize(l1MaxSize).expireAfterWrite(staleGrace).build()
+                : null;
+        return new TwoLevelCache(name, l1, l2, this::publish, staleEntries, lease, refreshExecutor, meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + "|" + cacheName + "|" + key);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 다른 파드의 L1은 TTL이 지나면 사라지므로 요청 자체는 실패시키지 않습니다.
+            log.warn("캐시 무효화 메시지를 보내지 못했습니다. cache={}, key={}", cacheName, key, e);
+        }
+    }
+}
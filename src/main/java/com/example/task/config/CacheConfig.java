@@ -0,0 +1,114 @@
+package com.example.task.config;
+
+import com.example.task.cache.CacheLoadLease;
+import com.example.task.cache.CacheValueCodec;
+import com.example.task.cache.CacheValueCodecRedisSerializer;
+import com.example.task.cache.JdkCacheValueCodec;
+import com.example.task.cache.SmileCacheValueCodec;
+import com.example.task.cache.TwoLevelCacheManager;
+import com.example.task.entity.Task;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Spring Cache 설정 클래스입니다.
+ * <p>
+ * 캐시는 2단으로 구성됩니다. 인스턴스 메모리의 L1(Caffeine)이 먼저 응답하고,
+ * 없으면 모든 파드가 공유하는 L2(Redis)를 확인합니다.
+ * 한 파드에서 캐시를 변경하면 Redis pub/sub으로 다른 파드의 L1도 무효화됩니다.
+ * L2에 저장되는 값의 형식은 {@code task.cache.codec}으로 고릅니다. ({@link CacheValueCodec} 참고)
+ * </p>
+ * <ul>
+ *     <li>'tasks' 캐시: 목록 조회의 첫 페이지(필터 조합별)</li>
+ *     <li>'task' 캐시: ID별 Task 상세</li>
+ * </ul>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** Task 목록 캐시 이름 */
+    public static final String TASKS_CACHE = "tasks";
+
+    /** Task 상세(ID별) 캐시 이름 */
+    public static final String TASK_CACHE = "task";
+
+    /**
+     * L2(Redis)에 캐시 값을 저장할 코덱입니다.
+     * smile 코덱에는 캐시에 저장하는 타입을 별칭과 함께 등록해야 합니다.
+     */
+    @Bean
+    public CacheValueCodec cacheValueCodec(@Value("${task.cache.codec:smile}") String codec,
+                                           @Value("${task.cache.compress-threshold:2048}") int compressThreshold) {
+        if ("jdk".equals(codec)) {
+            return new JdkCacheValueCodec(getClass().getClassLoader());
+        }
+        return new SmileCacheValueCodec(compressThreshold, Map.of("task", Task.class));
+    }
+
+    /**
+     * L2(Redis) 캐시 매니저입니다. 캐시별 TTL은 쓰기 시점의 무효화가 누락될 경우를 대비한 안전장치입니다.
+     */
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                                CacheValueCodec codec,
+                                                Duration tasksTtl,
+                                                Duration taskTtl) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new CacheValueCodecRedisSerializer(codec)));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withCacheConfiguration(TASKS_CACHE, defaults.entryTtl(tasksTtl))
+                .withCacheConfiguration(TASK_CACHE, defaults.entryTtl(taskTtl))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate stringRedisTemplate,
+                                             CacheValueCodec cacheValueCodec,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${task.cache.tasks-ttl:10m}") Duration tasksTtl,
+                                             @Value("${task.cache.task-ttl:10m}") Duration taskTtl,
+                                             @Value("${task.cache.l1.max-size:1000}") long l1MaxSize,
+                                             @Value("${task.cache.l1.ttl:30s}") Duration l1Ttl,
+                                             @Value("${task.cache.stale-grace:0s}") Duration staleGrace,
+                                             @Value("${task.cache.lease.enabled:false}") boolean leaseEnabled,
+                                             @Value("${task.cache.lease.ttl:5s}") Duration leaseTtl,
+                                             @Value("${task.cache.lease.wait:1s}") Duration leaseWait,
+                                             @Value("${task.cache.lease.poll-interval:25ms}") Duration leasePollInterval) {
+        CacheManager l2 = redisCacheManager(connectionFactory, cacheValueCodec, tasksTtl, taskTtl);
+        CacheLoadLease lease = leaseEnabled
+                ? new CacheLoadLease(stringRedisTemplate, leaseTtl, leaseWait, leasePollInterval)
+                : null;
+        return new TwoLevelCacheManager(l2, stringRedisTemplate, meterRegistry, l1MaxSize, l1Ttl, staleGrace, lease);
+    }
+
+    /**
+     * 다른 파드가 보낸 캐시 무효화 메시지를 구독하는 리스너 컨테이너입니다.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.task.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 작업(예: 통계 카운터 보정)을 활성화하는 설정 클래스입니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
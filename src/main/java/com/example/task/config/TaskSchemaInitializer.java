@@ -0,0 +1,171 @@
+package com.example.task.config;
+
+import com.example.task.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Hibernate의 ddl-auto(update)만으로는 처리되지 않는 PostgreSQL 스키마 작업을 시작 시점에 수행합니다.
+ * <p>
+ * EntityManagerFactory를 주입받아 Hibernate가 테이블/시퀀스를 만든 뒤에 실행되며,
+ * 웹 서버가 요청을 받기 전에 끝납니다. (오래 걸릴 수 있는 검색 인덱스 생성만 별도 스레드에서 이어집니다)
+ * 모든 작업은 여러 파드가 동시에 실행해도 안전하도록 작성합니다.
+ * PostgreSQL이 아닌 DB(예: 로컬 테스트용 인메모리 DB)에서는 아무 작업도 하지 않습니다.
+ * DB 없이 컨텍스트만 띄우는 경우(예: CDS 아카이브를 만드는 학습 실행)에는 {@code task.schema.init-enabled=false}로 끌 수 있습니다.
+ * </p>
+ */
+@Component
+public class TaskSchemaInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSchemaInitializer.class);
+
+    private static final String SEARCH_INDEX = "idx_tasks_search";
+    /** 검색 인덱스 생성을 한 파드만 하도록 잡는 advisory lock 키입니다. */
+    private static final long SEARCH_INDEX_LOCK = 0x7461736b73L; // "tasks"
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public TaskSchemaInitializer(JdbcTemplate jdbcTemplate,
+                                 EntityManagerFactory entityManagerFactory,
+                                 @Value("${task.schema.init-enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!enabled || !isPostgres()) {
+            return;
+        }
+        alignTaskIdSequence();
+        backfillVersion();
+        startSearchIndexBuild();
+    }
+
+    /**
+     * tasks_id_seq가 이미 사용된 최대 ID보다 뒤에 있도록 맞춥니다.
+     * IDENTITY로 만들어진 DB에서는 id 컬럼의 기본값이 이 시퀀스를 쓰므로 보통은 이미 맞춰져 있습니다.
+     * 시퀀스가 이미 앞서 있으면 되돌리지 않습니다.
+     */
+    private void alignTaskIdSequence() {
+        Long moved = jdbcTemplate.query(
+                "SELECT setval('tasks_id_seq', m) FROM (SELECT MAX(id) AS m FROM tasks) t "
+                        + "WHERE m IS NOT NULL AND m > (SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END FROM tasks_id_seq)",
+                rs -> rs.next() ? rs.getLong(1) : null);
+        if (moved != null) {
+            log.info("tasks_id_seq를 기존 최대 ID({}) 뒤로 이동했습니다.", moved);
+        }
+    }
+
+    /**
+     * 낙관적 잠금용 version 컬럼을 채웁니다.
+     * <p>
+     * ddl-auto(update)는 기존 행이 있는 테이블에 NOT NULL 컬럼을 추가할 수 없어 version을 null 허용으로 추가합니다.
+     * 기존 행을 0으로 채우고 기본값/NOT NULL을 지정해 두면, 조건부 UPDATE(version = ?)가 모든 행에서 동작합니다.
+     * 이미 NOT NULL이면 (한 번 실행된 뒤) 테이블을 다시 읽지 않습니다.
+     * </p>
+     */
+    private void backfillVersion() {
+        String nullable = jdbcTemplate.query(
+                "SELECT is_nullable FROM information_schema.columns "
+                        + "WHERE table_schema = current_schema() AND table_name = 'tasks' AND column_name = 'version'",
+                rs -> rs.next() ? rs.getString(1) : null);
+        if (!"YES".equals(nullable)) {
+            return;
+        }
+        int filled = jdbcTemplate.update("UPDATE tasks SET version = 0 WHERE version IS NULL");
+        jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN version SET DEFAULT 0");
+        jdbcTemplate.execute("ALTER TABLE tasks ALTER COLUMN version SET NOT NULL");
+        log.info("기존 Task의 version을 0으로 채웠습니다. rows={}", filled);
+    }
+
+    /**
+     * 전문 검색(GET /api/tasks/search)용 GIN 인덱스를 별도 스레드에서 만듭니다.
+     * <p>
+     * 제목(가중치 A)과 설명(가중치 B)을 'simple' 설정으로 나눕니다. 'simple'은 어간 추출 없이 공백/구두점 기준으로
+     * 소문자 토큰을 만들기 때문에, PostgreSQL에 사전이 없는 한국어도 단어 단위로 검색됩니다.
+     * 인덱스는 컬럼이 아니라 식({@link TaskRepository#SEARCH_DOCUMENT}) 위에 만들므로 테이블을 다시 쓰지 않고,
+     * 애플리케이션 쓰기 경로도 바뀌지 않습니다.
+     * </p>
+     * <p>
+     * 행이 많으면 인덱스를 만드는 데 오래 걸리므로 기동을 기다리게 하지 않습니다. 그동안 검색은 인덱스 없이 동작하며,
+     * 느리면 제한 시간 뒤 최신 후보만으로 응답합니다.
+     * </p>
+     */
+    private void startSearchIndexBuild() {
+        Thread builder = new Thread(this::createSearchIndex, "task-search-index");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * CREATE INDEX CONCURRENTLY로 인덱스를 만들어, 만드는 동안에도 tasks 읽기/쓰기가 막히지 않게 합니다.
+     * <p>
+     * 여러 파드가 같은 인덱스를 동시에 만들지 않도록 세션 advisory lock을 잡은 파드 하나만 만들고 나머지는 건너뜁니다.
+     * 잠금은 같은 연결에서 풀어야 하므로 연결 하나로 모든 문장을 실행합니다. (CONCURRENTLY는 트랜잭션 밖에서만 실행됩니다)
+     * 앞선 생성이 중간에 끊기면(파드 종료 등) 인덱스가 INVALID로 남아 IF NOT EXISTS로는 다시 만들어지지 않으므로, 지우고 다시 만듭니다.
+     * </p>
+     */
+    private void createSearchIndex() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    if (!tryLock(statement)) {
+                        log.info("다른 파드가 검색 인덱스를 확인하고 있어 건너뜁니다.");
+                        return null;
+                    }
+                    try {
+                        Boolean valid = queryBoolean(statement,
+                                "SELECT i.indisvalid FROM pg_index i "
+                                        + "JOIN pg_class c ON c.oid = i.indexrelid JOIN pg_namespace n ON n.oid = c.relnamespace "
+                                        + "WHERE c.relname = '" + SEARCH_INDEX + "' AND n.nspname = current_schema()");
+                        if (Boolean.TRUE.equals(valid)) {
+                            return null;
+                        }
+                        if (valid != null) {
+                            log.warn("중간에 끊긴 검색 인덱스를 지우고 다시 만듭니다.");
+                            statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + SEARCH_INDEX);
+                        }
+                        long started = System.nanoTime();
+                        statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + SEARCH_INDEX
+                                + " ON tasks USING GIN (" + TaskRepository.SEARCH_DOCUMENT + ")");
+                        log.info("검색 인덱스를 만들었습니다. elapsed={}ms", (System.nanoTime() - started) / 1_000_000);
+                    } finally {
+                        statement.execute("SELECT pg_advisory_unlock(" + SEARCH_INDEX_LOCK + ")");
+                    }
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("검색 인덱스를 만들지 못했습니다. 다음 기동 때 다시 시도합니다.", e);
+        }
+    }
+
+    private static boolean tryLock(Statement statement) throws SQLException {
+        return Boolean.TRUE.equals(queryBoolean(statement, "SELECT pg_try_advisory_lock(" + SEARCH_INDEX_LOCK + ")"));
+    }
+
+    private static Boolean queryBoolean(Statement statement, String sql) throws SQLException {
+        try (ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? rs.getBoolean(1) : null;
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "PostgreSQL".equalsIgnoreCase(product);
+    }
+}
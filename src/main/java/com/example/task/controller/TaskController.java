@@ -1,17 +1,43 @@
 package com.example.task.controller;
 
+import com.example.task.dto.TaskBatchResponseDto;
+import com.example.task.dto.TaskBatchUpdateDto;
+import com.example.task.dto.TaskCreateStatusDto;
+import com.example.task.dto.TaskPageResponseDto;
+import com.example.task.dto.TaskPatchDto;
 import com.example.task.dto.TaskRequestDto;
 import com.example.task.dto.TaskResponseDto;
+import com.example.task.dto.TaskSearchResponseDto;
+import com.example.task.dto.TaskStatsResponseDto;
+import com.example.task.dto.TaskTopResponseDto;
 import com.example.task.entity.Task; // Task 엔티티를 직접 사용하기 위해 import 합니다.
 import com.example.task.entity.TaskStatus;
+import com.example.task.service.TaskBatchService;
+import com.example.task.service.TaskChangeFeed;
+import com.example.task.service.TaskCreateQueue;
+import com.example.task.service.TaskExportService;
+import com.example.task.service.TaskSearchService;
 import com.example.task.service.TaskService;
+import com.example.task.service.TaskStatsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
-import java.util.stream.Collectors; // stream API 사용을 위해 import 합니다.
+import java.io.IOException;
+import java.net.URI;
+import java.util.function.Function;
 
 /**
  * Task 관련 HTTP 요청을 처리하는 API 컨트롤러입니다.
@@ -21,18 +47,55 @@ import java.util.stream.Collectors; // stream API 사용을 위해 import 합니
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
+    private final TaskExportService taskExportService;
+    private final TaskSearchService taskSearchService;
+    private final TaskStatsService taskStatsService;
+    private final TaskChangeFeed taskChangeFeed;
+    private final TaskCreateQueue taskCreateQueue;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService,
+                          TaskBatchService taskBatchService,
+                          TaskExportService taskExportService,
+                          TaskSearchService taskSearchService,
+                          TaskStatsService taskStatsService,
+                          TaskChangeFeed taskChangeFeed,
+                          TaskCreateQueue taskCreateQueue,
+                          ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
+        this.taskExportService = taskExportService;
+        this.taskSearchService = taskSearchService;
+        this.taskStatsService = taskStatsService;
+        this.taskChangeFeed = taskChangeFeed;
+        this.taskCreateQueue = taskCreateQueue;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * 새로운 Task를 생성하는 API 엔드포인트입니다.
      * Service가 Task 엔티티를 파라미터로 요구하므로, 컨트롤러에서 DTO를 엔티티로 변환합니다.
      * @Valid 어노테이션을 통해 TaskRequestDto의 유효성 검사(@NotBlank 등)를 활성화합니다.
+     * <p>
+     * 비동기 생성(task.async-create.mode)이 켜져 있으면 유효성 검사 후 대기열에 접수만 하고
+     * 202 Accepted와 추적 ID를 돌려줍니다. 저장 여부는 Location의 상태 조회 API(/api/tasks/creates/{trackingId})로 확인합니다.
+     * </p>
      */
     @PostMapping
-    public ResponseEntity<TaskResponseDto> createTask(@Valid @RequestBody TaskRequestDto requestDto) {
+    public ResponseEntity<?> createTask(@Valid @RequestBody TaskRequestDto requestDto,
+                                        @RequestHeader(value = "Prefer", required = false) String prefer) {
+        if (taskCreateQueue.shouldQueue(prefer)) {
+            TaskCreateStatusDto accepted = taskCreateQueue.enqueue(requestDto);
+            if (accepted != null) {
+                return ResponseEntity.accepted()
+                        .location(URI.create("/api/tasks/creates/" + accepted.getTrackingId()))
+                        .header("Preference-Applied", "respond-async")
+                        .body(accepted);
+            }
+            // 종료 중이거나 Redis 오류로 접수하지 못하면 아래에서 동기로 저장합니다.
+        }
+
         // 1. 클라이언트로부터 받은 DTO를 Service가 요구하는 Entity 객체로 변환합니다.
         Task taskToCreate = new Task();
         taskToCreate.setTitle(requestDto.getTitle());
@@ -52,55 +115,224 @@ public class TaskController {
         return new ResponseEntity<>(responseDto, HttpStatus.CREATED);
     }
 
+    /**
+     * 비동기로 접수한 생성 요청의 처리 상태를 조회하는 API 엔드포인트입니다.
+     * 저장이 끝나면(CREATED) taskId와 함께 생성된 Task의 위치를 Location 헤더로 알려줍니다.
+     * 추적 ID가 없거나 보관 기간(task.async-create.status-ttl)이 지났으면 404로 응답합니다.
+     */
+    @GetMapping("/creates/{trackingId}")
+    public ResponseEntity<TaskCreateStatusDto> getCreateStatus(@PathVariable String trackingId) {
+        TaskCreateStatusDto status = taskCreateQueue.getStatus(trackingId);
+        if (status.getStatus() == TaskCreateStatusDto.Status.CREATED) {
+            return ResponseEntity.ok().location(URI.create("/api/tasks/" + status.getTaskId())).body(status);
+        }
+        return ResponseEntity.ok(status);
+    }
+
     /**
      * 특정 ID를 가진 Task를 조회하는 API 엔드포인트입니다.
+     * If-None-Match가 현재 ETag(id와 version으로 만듭니다)와 같으면 본문 없이 304로 응답합니다. (조회수는 그대로 증가합니다)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id) {
+    public ResponseEntity<TaskResponseDto> getTaskById(@PathVariable Long id, WebRequest request) {
         TaskResponseDto task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+        String etag = TaskService.taskETag(task);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(task);
     }
 
     /**
-     * 모든 Task 목록을 조회하는 API 엔드포인트입니다.
-     * 서비스에서 받은 Task 엔티티 리스트를 TaskResponseDto 리스트로 변환하여 응답합니다.
+     * Task 목록을 페이지 단위로 조회하는 API 엔드포인트입니다.
+     * 상태/담당자/우선순위로 필터링할 수 있으며, 다음 페이지는 응답의 nextCursor를 cursor로 넘겨 조회합니다.
+     * 예) GET /api/tasks?status=TODO&size=20&cursor=1234
+     * <p>
+     * 응답에는 목록 버전으로 만든 ETag가 붙으며, 그 뒤로 Task가 바뀌지 않았다면
+     * If-None-Match 요청에 목록을 조회하지 않고 304로 응답합니다.
+     * </p>
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponseDto>> getAllTasks() {
-        // 1. Service를 호출하여 Task 엔티티 목록을 받습니다.
-        List<Task> taskEntities = taskService.getAllTasks();
+    public ResponseEntity<TaskPageResponseDto> getTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) String assignee,
+            @RequestParam(required = false) Integer priority,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        // 버전은 목록을 읽기 전에 구합니다. 그 사이에 바뀌면 새 목록에 이전 ETag가 붙을 뿐이라 다음 요청에서 다시 받습니다.
+        String etag = taskService.getTasksETag();
+        if (etag == null) {
+            return ResponseEntity.ok(taskService.getTasks(status, assignee, priority, cursor, size));
+        }
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(taskService.getTasks(status, assignee, priority, cursor, size));
+    }
+
+    /**
+     * 제목과 설명에서 검색어로 Task를 찾는 API 엔드포인트입니다. 결과는 관련도 순(제목 일치 우선)입니다.
+     * 예) GET /api/tasks/search?q=배포 오류&page=0&size=20
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponseDto> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        if (q.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색어(q)를 입력하세요.");
+        }
+        return ResponseEntity.ok(taskSearchService.search(q, page, size));
+    }
+
+    /**
+     * 조회수가 가장 많은 Task 목록을 조회하는 API 엔드포인트입니다.
+     * 예) GET /api/tasks/top?n=20 (전체 기간), GET /api/tasks/top?n=20&window=24h (최근 24시간, window는 1h/24h/7d)
+     */
+    @GetMapping("/top")
+    public ResponseEntity<TaskTopResponseDto> getTopViewed(
+            @RequestParam(required = false) Integer n,
+            @RequestParam(required = false) String window) {
+        return ResponseEntity.ok(taskService.getTopViewed(n, window));
+    }
+
+    /**
+     * 상태별 Task 수와 담당자별 미완료 Task 수를 조회하는 API 엔드포인트입니다.
+     * 쓰기 때마다 갱신되는 Redis 카운터를 읽으므로 Task 수와 상관없이 빠르게 응답합니다.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponseDto> getStats() {
+        return ResponseEntity.ok(taskStatsService.getStats());
+    }
 
-        // 2. 받은 엔티티 목록을 순회하며, 각 엔티티를 TaskResponseDto로 변환합니다.
-        List<TaskResponseDto> taskResponses = taskEntities.stream()
-                .map(task -> {
-                    // ★★★★★ 해결 방법 ★★★★★
-                    // TaskService의 getViewCount가 private이라 호출할 수 없으므로,
-                    // 목록 조회 시에는 조회수를 0으로 가정하여 응답 DTO를 생성합니다.
-                    // 상세 조회(getTaskById) 시에는 서비스에서 처리하므로 실제 조회수가 보입니다.
-                    // 주석 수정
-                    return new TaskResponseDto(task, 0L);
-                })
-                .collect(Collectors.toList());
+    /**
+     * Task 생성/수정/삭제를 SSE(text/event-stream)로 받아보는 API 엔드포인트입니다.
+     * 이벤트 이름은 created / updated / deleted / reset이고, 다시 연결할 때 Last-Event-ID 헤더(또는 lastEventId 파라미터)를 보내면
+     * 끊긴 동안의 변경부터 이어서 받습니다. reset을 받으면 목록을 다시 조회해야 합니다.
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) String lastEventId) {
+        return taskChangeFeed.subscribe(lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+    }
 
-        return ResponseEntity.ok(taskResponses);
+    /**
+     * 모든 Task를 NDJSON(한 줄에 Task 하나)으로 내보내는 API 엔드포인트입니다.
+     * DB에서 읽는 대로 응답에 바로 쓰므로, 데이터가 많아도 서버 메모리 사용량이 늘지 않습니다.
+     */
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTasks(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson\"");
+        taskExportService.exportTasks(response.getOutputStream());
     }
 
     /**
      * 특정 ID를 가진 Task를 수정하는 API 엔드포인트입니다.
+     * If-Match에 조회 때 받은 ETag를 보내면 그 사이 다른 요청이 먼저 수정한 경우 412 Precondition Failed로 응답합니다.
+     * 응답에는 수정된 Task의 ETag를 담습니다.
      */
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponseDto> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequestDto requestDto) {
-        TaskResponseDto updatedTask = taskService.updateTask(id, requestDto);
-        return ResponseEntity.ok(updatedTask);
+    public ResponseEntity<TaskResponseDto> updateTask(@PathVariable Long id, @Valid @RequestBody TaskRequestDto requestDto,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponseDto updatedTask = taskService.updateTask(id, requestDto, expectedVersion(id, ifMatch));
+        return ResponseEntity.ok().eTag(TaskService.taskETag(updatedTask)).body(updatedTask);
+    }
+
+    /**
+     * 특정 ID를 가진 Task의 일부 필드만 수정하는 API 엔드포인트입니다. 본문에 없는 필드는 그대로 두고, null로 보낸 필드는 지웁니다.
+     * 예) PATCH /api/tasks/42 {"status": "DONE"} (If-Match: W/"task-42-3")
+     * PUT과 같이 If-Match로 충돌을 검사하고(412), 응답에는 수정된 Task의 ETag를 담습니다. 응답의 viewCount는 null입니다.
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<TaskResponseDto> patchTask(@PathVariable Long id, @Valid @RequestBody TaskPatchDto patch,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (!patch.hasChanges()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "수정할 필드가 없습니다.");
+        }
+        if (patch.isTitleSet() && (patch.getTitle() == null || patch.getTitle().isBlank())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Title cannot be blank");
+        }
+        if (patch.isStatusSet() && patch.getStatus() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "status는 null일 수 없습니다.");
+        }
+        TaskResponseDto patchedTask = taskService.patchTask(id, patch, expectedVersion(id, ifMatch));
+        return ResponseEntity.ok().eTag(TaskService.taskETag(patchedTask)).body(patchedTask);
     }
 
     /**
      * 특정 ID를 가진 Task를 삭제하는 API 엔드포인트입니다.
+     * PUT/PATCH와 같이 If-Match를 보내면 그 버전일 때만 삭제하고, 아니면 412 Precondition Failed로 응답합니다.
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Long id) {
-        taskService.deleteTask(id);
+    public ResponseEntity<Void> deleteTask(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        taskService.deleteTask(id, expectedVersion(id, ifMatch));
         return ResponseEntity.noContent().build();
     }
-}
 
+    /**
+     * 여러 Task를 한 번에 생성하는 API 엔드포인트입니다.
+     * 본문은 JSON 배열 또는 한 줄에 객체 하나씩인 NDJSON(application/x-ndjson)으로 받으며,
+     * 본문 전체를 메모리에 올리지 않고 읽는 대로 묶어서 저장합니다.
+     */
+    @PostMapping(path = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TaskBatchResponseDto> createTasks(HttpServletRequest request) throws IOException {
+        return readItems(request, TaskRequestDto.class, items -> ResponseEntity.ok(taskBatchService.createTasks(items)));
+    }
+
+    /**
+     * 여러 Task를 한 번에 수정하는 API 엔드포인트입니다. 각 항목에는 수정할 Task의 id가 필요합니다.
+     */
+    @PutMapping(path = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TaskBatchResponseDto> updateTasks(HttpServletRequest request) throws IOException {
+        return readItems(request, TaskBatchUpdateDto.class, items -> ResponseEntity.ok(taskBatchService.updateTasks(items)));
+    }
+
+    /**
+     * 여러 Task를 한 번에 삭제하는 API 엔드포인트입니다. 본문은 ID 배열(예: [1, 2, 3]) 또는 NDJSON입니다.
+     */
+    @DeleteMapping(path = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TaskBatchResponseDto> deleteTasks(HttpServletRequest request) throws IOException {
+        return readItems(request, Long.class, ids -> ResponseEntity.ok(taskBatchService.deleteTasks(ids)));
+    }
+
+    /**
+     * 요청 본문을 항목 단위로 읽는 Iterator를 만들어 handler에 넘깁니다.
+     * Jackson의 MappingIterator는 최상위가 배열이면 배열의 원소를, 아니면 공백/줄바꿈으로 구분된 값을 차례로 읽으므로
+     * JSON 배열과 NDJSON을 같은 방식으로 처리할 수 있습니다.
+     * 본문을 여는 시점에 형식이 잘못된 경우 400 Bad Request로 응답합니다.
+     * 항목을 읽는 도중의 오류는 앞쪽 묶음이 이미 커밋되었을 수 있으므로 {@link TaskBatchService}가 항목별 결과로 돌려줍니다.
+     */
+    private <T, R> R readItems(HttpServletRequest request, Class<T> type,
+                               Function<MappingIterator<T>, R> handler) throws IOException {
+        try (MappingIterator<T> items = objectMapper.readerFor(type).readValues(request.getInputStream())) {
+            return handler.apply(items);
+        } catch (JsonProcessingException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "요청 본문을 읽을 수 없습니다: " + e.getOriginalMessage(), e);
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IOException || e instanceof RuntimeJsonMappingException) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "요청 본문을 읽을 수 없습니다: " + e.getMessage(), e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * If-Match 헤더에서 기대하는 버전을 꺼냅니다. 헤더가 없거나 "*"이면 버전을 검사하지 않습니다. (null)
+     * 이 API가 만든 ETag 형식이 아니면 400 Bad Request로 응답합니다.
+     */
+    private static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        try {
+            return TaskService.versionFromETag(id, ifMatch);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.task.controller;
+
+import com.example.task.service.TaskCreateQueueFullException;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 서비스 계층의 예외를 HTTP 상태 코드로 바꾸는 핸들러입니다.
+ * <ul>
+ *     <li>{@link EntityNotFoundException}: 요청한 Task가 없음 → 404 Not Found</li>
+ *     <li>{@link OptimisticLockingFailureException}: 읽은 뒤 다른 요청이 먼저 수정함 → If-Match를 보낸 요청이면 412 Precondition Failed,
+ *     아니면(저장 직전에 다른 요청과 겹친 경우) 409 Conflict (다시 조회해 최신 ETag로 재시도하면 됩니다)</li>
+ *     <li>{@link TaskCreateQueueFullException}: 비동기 생성 대기열이 가득 참 → 503 Service Unavailable + Retry-After</li>
+ * </ul>
+ */
+@RestControllerAdvice
+public class TaskExceptionHandler {
+
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ProblemDetail handleNotFound(EntityNotFoundException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleConflict(OptimisticLockingFailureException e, HttpServletRequest request) {
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+        return ProblemDetail.forStatusAndDetail(status, e.getMessage());
+    }
+
+    @ExceptionHandler(TaskCreateQueueFullException.class)
+    public ResponseEntity<ProblemDetail> handleQueueFull(TaskCreateQueueFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1L, e.getRetryAfter().toSeconds())))
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+}
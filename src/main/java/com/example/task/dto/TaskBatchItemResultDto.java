@@ -0,0 +1,46 @@
+package com.example.task.dto;
+
+/**
+ * 일괄 생성/수정/삭제 요청에서 항목 하나의 처리 결과를 나타내는 DTO입니다.
+ * index는 요청 본문에서 해당 항목의 순서(0부터 시작)입니다.
+ */
+public class TaskBatchItemResultDto {
+
+    /** 항목별 처리 결과 */
+    public enum Result {
+        CREATED, UPDATED, DELETED,
+        /** 해당 ID의 Task가 없음 */
+        NOT_FOUND,
+        /** 유효성 검사 실패 (예: 제목 누락) */
+        INVALID,
+        /** DB 저장 중 오류 */
+        FAILED
+    }
+
+    private int index;
+    private Long id;
+    private Result result;
+    private String message;
+
+    public TaskBatchItemResultDto(int index, Long id, Result result, String message) {
+        this.index = index;
+        this.id = id;
+        this.result = result;
+        this.message = message;
+    }
+
+    /** 성공(CREATED, UPDATED, DELETED) 여부 */
+    public boolean isSuccess() {
+        return result == Result.CREATED || result == Result.UPDATED || result == Result.DELETED;
+    }
+
+    // --- Getters and Setters ---
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Result getResult() { return result; }
+    public void setResult(Result result) { this.result = result; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
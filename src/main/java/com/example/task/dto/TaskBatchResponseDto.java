@@ -0,0 +1,31 @@
+package com.example.task.dto;
+
+import java.util.List;
+
+/**
+ * 일괄 생성/수정/삭제 요청의 전체 처리 결과를 응답하는 DTO입니다.
+ * 일부 항목이 실패해도 나머지 항목은 처리되며, 항목별 결과는 results에 요청 순서대로 담깁니다.
+ */
+public class TaskBatchResponseDto {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<TaskBatchItemResultDto> results;
+
+    public TaskBatchResponseDto(List<TaskBatchItemResultDto> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(TaskBatchItemResultDto::isSuccess).count();
+        this.failed = total - succeeded;
+    }
+
+    // --- Getters and Setters ---
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+    public int getSucceeded() { return succeeded; }
+    public void setSucceeded(int succeeded) { this.succeeded = succeeded; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    public List<TaskBatchItemResultDto> getResults() { return results; }
+    public void setResults(List<TaskBatchItemResultDto> results) { this.results = results; }
+}
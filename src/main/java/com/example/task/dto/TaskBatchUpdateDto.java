@@ -0,0 +1,15 @@
+package com.example.task.dto;
+
+/**
+ * 여러 Task를 한 번에 수정(PUT /api/tasks/batch)할 때 항목 하나를 나타내는 DTO입니다.
+ * 수정할 Task의 ID와 함께, 단건 수정(PUT /api/tasks/{id})과 같은 필드를 받습니다.
+ */
+public class TaskBatchUpdateDto extends TaskRequestDto {
+
+    /** 수정할 Task의 ID */
+    private Long id;
+
+    // --- Getters and Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+}
@@ -0,0 +1,31 @@
+package com.example.task.dto;
+
+/**
+ * 변경 피드(GET /api/tasks/changes)로 보내는 Task 변경 한 건입니다.
+ * <p>
+ * type은 created / updated / deleted 중 하나이며, deleted이면 task는 null입니다.
+ * task의 viewCount는 채우지 않습니다. (조회수는 변경으로 보지 않습니다)
+ * </p>
+ */
+public class TaskChangeDto {
+    private String type;
+    private Long id;
+    private TaskResponseDto task;
+
+    public TaskChangeDto() {
+    }
+
+    public TaskChangeDto(String type, Long id, TaskResponseDto task) {
+        this.type = type;
+        this.id = id;
+        this.task = task;
+    }
+
+    // --- Getters and Setters ---
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public TaskResponseDto getTask() { return task; }
+    public void setTask(TaskResponseDto task) { this.task = task; }
+}
@@ -0,0 +1,42 @@
+package com.example.task.dto;
+
+/**
+ * 비동기로 접수한 Task 생성 요청의 처리 상태를 나타내는 DTO입니다.
+ * trackingId는 접수 시 202 응답으로 돌려준 추적 ID이고, taskId는 저장이 끝난(CREATED) 뒤에만 채워집니다.
+ */
+public class TaskCreateStatusDto {
+
+    /** 생성 요청의 처리 상태 */
+    public enum Status {
+        /** 접수되어 저장을 기다리는 중 */
+        PENDING,
+        /** DB에 저장(커밋)됨 */
+        CREATED,
+        /** DB 저장 중 오류 (저장되지 않음) */
+        FAILED,
+        /** 커밋 중 오류가 나 저장되었는지 알 수 없음 (다시 보내기 전에 목록에서 확인해야 합니다) */
+        UNKNOWN
+    }
+
+    private String trackingId;
+    private Status status;
+    private Long taskId;
+    private String message;
+
+    public TaskCreateStatusDto(String trackingId, Status status, Long taskId, String message) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.taskId = taskId;
+        this.message = message;
+    }
+
+    // --- Getters and Setters ---
+    public String getTrackingId() { return trackingId; }
+    public void setTrackingId(String trackingId) { this.trackingId = trackingId; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    public Long getTaskId() { return taskId; }
+    public void setTaskId(Long taskId) { this.taskId = taskId; }
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,34 @@
+package com.example.task.dto;
+
+import java.util.List;
+
+/**
+ * Task 목록을 키셋(cursor) 방식으로 페이지 단위 응답할 때 사용하는 DTO 클래스입니다.
+ * <p>
+ * 다음 페이지를 요청할 때는 응답의 nextCursor 값을 cursor 파라미터로 그대로 넘기면 됩니다.
+ * 마지막 페이지라면 nextCursor는 null이고 hasNext는 false입니다.
+ * </p>
+ */
+public class TaskPageResponseDto {
+    private List<TaskResponseDto> content;
+    private Long nextCursor;
+    private boolean hasNext;
+    private int size;
+
+    public TaskPageResponseDto(List<TaskResponseDto> content, Long nextCursor, boolean hasNext, int size) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = size;
+    }
+
+    // --- Getters and Setters ---
+    public List<TaskResponseDto> getContent() { return content; }
+    public void setContent(List<TaskResponseDto> content) { this.content = content; }
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
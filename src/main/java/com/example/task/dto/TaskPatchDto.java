@@ -0,0 +1,58 @@
+package com.example.task.dto;
+
+import com.example.task.entity.TaskStatus;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Task의 일부 필드만 수정(PATCH)할 때 사용하는 DTO 클래스입니다.
+ * <p>
+ * 요청 본문에 들어 있는 필드만 수정합니다. Jackson은 본문에 있는 필드의 setter만 호출하므로,
+ * setter가 호출되었는지를 기록해 "보내지 않은 필드"(그대로 둠)와 "null로 보낸 필드"(값을 지움)를 구분합니다.
+ * </p>
+ * <p>
+ * 충돌 검사는 본문이 아니라 If-Match 헤더로 합니다. (PUT/DELETE와 같습니다)
+ * </p>
+ * <p>
+ * 길이 제한은 {@link TaskRequestDto}와 같습니다. (null은 길이 검사를 통과하므로 값을 지우는 요청은 그대로 허용됩니다)
+ * </p>
+ */
+public class TaskPatchDto {
+
+    @Size(max = 255, message = "title은 255자를 넘을 수 없습니다.")
+    private String title;
+    @Size(max = 2000, message = "description은 2000자를 넘을 수 없습니다.")
+    private String description;
+    private TaskStatus status;
+    private Integer priority;
+    @Size(max = 100, message = "assignee는 100자를 넘을 수 없습니다.")
+    private String assignee;
+
+    private boolean titleSet;
+    private boolean descriptionSet;
+    private boolean statusSet;
+    private boolean prioritySet;
+    private boolean assigneeSet;
+
+    /** 수정할 필드가 하나라도 있는지 확인합니다. */
+    public boolean hasChanges() {
+        return titleSet || descriptionSet || statusSet || prioritySet || assigneeSet;
+    }
+
+    // --- Getters and Setters ---
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; this.titleSet = true; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; this.descriptionSet = true; }
+    public TaskStatus getStatus() { return status; }
+    public void setStatus(TaskStatus status) { this.status = status; this.statusSet = true; }
+    public Integer getPriority() { return priority; }
+    public void setPriority(Integer priority) { this.priority = priority; this.prioritySet = true; }
+    public String getAssignee() { return assignee; }
+    public void setAssignee(String assignee) { this.assignee = assignee; this.assigneeSet = true; }
+
+    public boolean isTitleSet() { return titleSet; }
+    public boolean isDescriptionSet() { return descriptionSet; }
+    public boolean isStatusSet() { return statusSet; }
+    public boolean isPrioritySet() { return prioritySet; }
+    public boolean isAssigneeSet() { return assigneeSet; }
+}
@@ -2,6 +2,7 @@ package com.example.task.dto;
 
 import com.example.task.entity.TaskStatus;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 /**
  * 클라이언트(예: 웹 브라우저, 모바일 앱)로부터 Task 생성 및 수정 요청을 받을 때
@@ -17,13 +18,17 @@ public class TaskRequestDto {
      * Task의 제목.
      * @NotBlank: null, "", " " (공백만 있는 문자열)을 허용하지 않습니다.
      * 만약 유효하지 않은 값이 들어오면 400 Bad Request 오류를 자동으로 발생시킵니다.
+     * 길이 제한은 Task 엔티티의 컬럼 길이와 같습니다. (넘으면 DB 오류 대신 400)
      */
     @NotBlank(message = "Title cannot be blank")
+    @Size(max = 255, message = "title은 255자를 넘을 수 없습니다.")
     private String title;
 
+    @Size(max = 2000, message = "description은 2000자를 넘을 수 없습니다.")
     private String description;
     private TaskStatus status;
     private Integer priority;
+    @Size(max = 100, message = "assignee는 100자를 넘을 수 없습니다.")
     private String assignee;
 
     // --- Getters and Setters ---
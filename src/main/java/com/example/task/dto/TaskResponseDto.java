@@ -22,6 +22,7 @@ public class TaskResponseDto {
     private Long viewCount; // Redis에서 가져온 조회수 정보
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version; // 낙관적 잠금 버전 (PATCH/DELETE 요청의 version으로 보내면 그 사이 수정되었을 때 409)
 
     /**
      * Task 엔티티와 조회수 정보를 받아 DTO 객체를 생성하는 생성자입니다.
@@ -40,6 +41,7 @@ public class TaskResponseDto {
         this.viewCount = viewCount;
         this.createdAt = task.getCreatedAt();
         this.updatedAt = task.getUpdatedAt();
+        this.version = task.getVersion();
     }
     
     // --- Getters and Setters ---
@@ -61,5 +63,7 @@ public class TaskResponseDto {
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
@@ -0,0 +1,39 @@
+package com.example.task.dto;
+
+import java.util.List;
+
+/**
+ * Task 검색 결과를 페이지 단위로 응답할 때 사용하는 DTO 클래스입니다.
+ * <p>
+ * 결과는 관련도 순이므로 키셋(cursor) 대신 페이지 번호로 이동합니다.
+ * 마지막 페이지라면 hasNext는 false입니다.
+ * 일치하는 Task가 너무 많아 최신 후보만으로 관련도를 매긴 경우 truncated가 true입니다. (더 오래된 Task는 빠졌을 수 있습니다)
+ * </p>
+ */
+public class TaskSearchResponseDto {
+    private List<TaskResponseDto> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private boolean truncated;
+
+    public TaskSearchResponseDto(List<TaskResponseDto> content, int page, int size, boolean hasNext, boolean truncated) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.truncated = truncated;
+    }
+
+    // --- Getters and Setters ---
+    public List<TaskResponseDto> getContent() { return content; }
+    public void setContent(List<TaskResponseDto> content) { this.content = content; }
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+    public boolean isTruncated() { return truncated; }
+    public void setTruncated(boolean truncated) { this.truncated = truncated; }
+}
@@ -0,0 +1,34 @@
+package com.example.task.dto;
+
+import java.util.Map;
+
+/**
+ * 대시보드용 Task 집계(상태별 개수, 담당자별 미완료 개수)를 응답할 때 사용하는 DTO 클래스입니다.
+ * <p>
+ * 미완료는 DONE이 아닌 상태(TODO, IN_PROGRESS)를 뜻합니다.
+ * 담당자가 없는 미완료 Task는 openByAssignee 대신 unassignedOpen에 집계됩니다.
+ * </p>
+ */
+public class TaskStatsResponseDto {
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> openByAssignee;
+    private long unassignedOpen;
+
+    public TaskStatsResponseDto(long total, Map<String, Long> byStatus, Map<String, Long> openByAssignee, long unassignedOpen) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.openByAssignee = openByAssignee;
+        this.unassignedOpen = unassignedOpen;
+    }
+
+    // --- Getters and Setters ---
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+    public Map<String, Long> getByStatus() { return byStatus; }
+    public void setByStatus(Map<String, Long> byStatus) { this.byStatus = byStatus; }
+    public Map<String, Long> getOpenByAssignee() { return openByAssignee; }
+    public void setOpenByAssignee(Map<String, Long> openByAssignee) { this.openByAssignee = openByAssignee; }
+    public long getUnassignedOpen() { return unassignedOpen; }
+    public void setUnassignedOpen(long unassignedOpen) { this.unassignedOpen = unassignedOpen; }
+}
@@ -0,0 +1,25 @@
+package com.example.task.dto;
+
+import java.util.List;
+
+/**
+ * 조회수가 가장 많은 Task 목록(GET /api/tasks/top)을 응답할 때 사용하는 DTO 클래스입니다.
+ * <p>
+ * content는 조회수가 많은 순서입니다. window가 있으면 각 Task의 viewCount는 전체 조회수가 아니라 해당 기간의 조회수입니다.
+ * </p>
+ */
+public class TaskTopResponseDto {
+    private List<TaskResponseDto> content;
+    private String window; // 집계 기간 (예: PT24H), 전체 기간이면 null
+
+    public TaskTopResponseDto(List<TaskResponseDto> content, String window) {
+        this.content = content;
+        this.window = window;
+    }
+
+    // --- Getters and Setters ---
+    public List<TaskResponseDto> getContent() { return content; }
+    public void setContent(List<TaskResponseDto> content) { this.content = content; }
+    public String getWindow() { return window; }
+    public void setWindow(String window) { this.window = window; }
+}
@@ -15,7 +15,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * Task 한 개의 정보를 나타냅니다.
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        // 목록 조회의 필터 + 키셋(id) 페이지네이션을 인덱스만으로 처리하기 위한 복합 인덱스입니다.
+        @Index(name = "idx_tasks_status_id", columnList = "status, id"),
+        @Index(name = "idx_tasks_assignee_id", columnList = "assignee, id"),
+        @Index(name = "idx_tasks_priority_id", columnList = "priority, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,10 +31,14 @@ public class Task implements Serializable {
     
     /**
      * Task의 고유 식별자 (Primary Key) 입니다.
-     * IDENTITY 전략은 데이터베이스가 ID 생성을 책임지도록 합니다. (예: PostgreSQL의 SERIAL)
+     * 기존 IDENTITY 컬럼이 쓰던 시퀀스(tasks_id_seq)에서 INSERT 전에 ID를 받아오므로,
+     * Hibernate가 여러 건의 INSERT를 JDBC 배치로 묶을 수 있습니다. (IDENTITY 전략은 배치 INSERT가 불가능합니다.)
+     * 모든 파드가 같은 시퀀스를 쓰므로 id 순서가 생성 순서와 같고, 목록의 키셋 페이지네이션(id DESC)과 첫 페이지 캐시가 이 순서에 의존합니다.
+     * 여러 건을 저장할 때는 묶음 크기만큼의 ID를 한 번에 받아 채우고({@link TaskIdGenerator}), 한 건은 시퀀스에서 하나를 받습니다.
+     * (파드마다 여러 개씩 미리 받아 두는 pooled 방식은 파드 간에 id 순서가 생성 순서와 어긋나므로 사용하지 않습니다.)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TaskIdGenerator.Sequence
     private Long id;
 
     /** Task의 제목. null 값을 허용하지 않습니다. */
@@ -71,6 +80,14 @@ public class Task implements Serializable {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    /**
+     * 낙관적 잠금(optimistic locking)용 버전. 수정될 때마다 1씩 증가합니다.
+     * 읽은 뒤 다른 요청이 먼저 수정했다면 버전이 달라 UPDATE가 반영되지 않으므로, 동시 수정이 서로를 덮어쓰지 않습니다.
+     * (컬럼 추가 전의 기존 행은 TaskSchemaInitializer가 0으로 채웁니다)
+     */
+    @Version
+    private Long version;
+
     // --- Getters and Setters ---
     // 실제 프로젝트에서는 코드를 간결하게 하기 위해 Lombok 라이브러리 (@Getter, @Setter 등) 사용을 적극 권장합니다.
     public Long getId() { return id; }
@@ -89,5 +106,7 @@ public class Task implements Serializable {
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
 
@@ -0,0 +1,50 @@
+package com.example.task.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Properties;
+
+/**
+ * tasks_id_seq에서 ID를 받는 시퀀스 생성기입니다. 저장 전에 ID가 이미 채워져 있으면 그 값을 그대로 사용합니다.
+ * <p>
+ * 여러 건을 한 번에 저장하는 경로는 {@code TaskWriteRepository#assignIds}로 묶음 크기만큼의 ID를
+ * DB 왕복 한 번에 받아 채워 두고, 한 건씩 저장하는 경로는 평소처럼 시퀀스에서 하나를 받습니다.
+ * </p>
+ */
+public class TaskIdGenerator extends SequenceStyleGenerator {
+
+    static final String SEQUENCE_NAME = "tasks_id_seq";
+
+    /** ID 필드에 붙여 이 생성기를 사용합니다. */
+    @IdGeneratorType(TaskIdGenerator.class)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD})
+    public @interface Sequence {
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        parameters.put(SEQUENCE_PARAM, SEQUENCE_NAME);
+        parameters.put(INCREMENT_PARAM, "1");
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return currentValue != null ? currentValue : super.generate(session, owner);
+    }
+}
@@ -1,9 +1,21 @@
 package com.example.task.repository;
 
 import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Task 엔티티에 대한 데이터베이스 접근을 처리하는 Spring Data JPA 리포지토리입니다.
  * JpaRepository<Task, Long>를 상속받음으로써, Task 엔티티(관리 대상)의
@@ -11,9 +23,114 @@ import org.springframework.stereotype.Repository;
  * <p>
  * 이 인터페이스를 정의하는 것만으로도 기본적인 CRUD(Create, Read, Update, Delete) 메서드
  * (예: save(), findById(), findAll(), deleteById())가 자동으로 생성되어 주입됩니다.
+ * 한 문장으로 처리하는 부분 수정/삭제는 {@link TaskWriteRepository}를 참고하세요.
  * </p>
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-}
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskWriteRepository {
+
+    /**
+     * 전문 검색 대상 문서(tsvector)를 만드는 식입니다. 제목은 가중치 A, 설명은 B입니다.
+     * GIN 인덱스(idx_tasks_search)가 이 식 위에 만들어지므로, 검색 쿼리도 글자 하나 다르지 않게 이 식을 써야 인덱스를 탑니다.
+     */
+    String SEARCH_DOCUMENT = "(setweight(to_tsvector('simple', coalesce(title, '')), 'A') || "
+            + "setweight(to_tsvector('simple', coalesce(description, '')), 'B'))";
+
+    /**
+     * 필터 조건에 맞는 Task를 id 내림차순(최신순)으로 최대 limit개 조회합니다.
+     * id는 모든 파드가 하나의 시퀀스에서 받아 생성 순서대로 증가하므로 createdAt 기준 정렬과 같은 순서가 되며,
+     * cursor보다 작은 id부터 읽는 키셋(keyset) 방식이라 OFFSET 없이 (조건 컬럼, id) 인덱스만으로 처리됩니다.
+     *
+     * @param cursor   이전 페이지의 마지막 id (첫 페이지면 null)
+     * @param status   상태 필터 (null이면 조건 없음)
+     * @param assignee 담당자 필터 (null이면 조건 없음)
+     * @param priority 우선순위 필터 (null이면 조건 없음)
+     * @param limit    최대 조회 건수
+     * @return 조회된 Task 목록
+     */
+    default List<Task> findPage(Long cursor, TaskStatus status, String assignee, Integer priority, int limit) {
+        Specification<Task> spec = Specification.allOf(
+                TaskSpecifications.idLessThan(cursor),
+                TaskSpecifications.hasStatus(status),
+                TaskSpecifications.hasAssignee(assignee),
+                TaskSpecifications.hasPriority(priority));
+        return findBy(spec, query -> query.sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(limit).all());
+    }
+
+    /**
+     * afterId보다 큰 id의 Task를 id 순서대로 최대 limit개 조회합니다. (내보내기용 키셋 페이지)
+     * 기본 키 인덱스로 시작 위치를 바로 찾으므로 뒤쪽 페이지도 앞쪽과 같은 비용입니다.
+     *
+     * @param afterId 이전 페이지의 마지막 id (처음이면 0)
+     * @param limit   최대 조회 건수
+     * @return 조회된 Task 목록
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT t FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<Task> findExportPage(@Param("afterId") long afterId, Limit limit);
 
+    /**
+     * 상태별 Task 수를 집계합니다. (통계 카운터 초기화/보정용)
+     * @return [TaskStatus, Long] 배열 목록
+     */
+    @Query("SELECT t.status, COUNT(t) FROM Task t GROUP BY t.status")
+    List<Object[]> countByStatus();
+
+    /**
+     * 담당자별로 완료되지 않은 Task 수를 집계합니다. 담당자가 없는 Task는 null로 묶입니다. (통계 카운터 초기화/보정용)
+     * @param done 완료 상태 (이 상태는 제외)
+     * @return [String, Long] 배열 목록
+     */
+    @Query("SELECT t.assignee, COUNT(t) FROM Task t WHERE t.status <> :done GROUP BY t.assignee")
+    List<Object[]> countOpenByAssignee(@Param("done") TaskStatus done);
+
+    /**
+     * 제목과 설명에서 검색어와 일치하는 Task를 관련도 순으로 조회합니다. (PostgreSQL 전용)
+     * <p>
+     * {@link #SEARCH_DOCUMENT} 식의 GIN 인덱스로 일치하는 행을 모두 찾은 뒤, 그 전체에 대해 관련도(ts_rank_cd, 제목 일치가 더 높음)를
+     * 계산해 상위 limit + offset건만 남깁니다. (top-N 정렬) 흔한 단어로 수십만 건이 일치하면 2초 제한 시간을 넘을 수 있으며,
+     * 이때는 QueryTimeoutException이 발생하므로 {@link #searchRecent}로 대신 조회합니다.
+     * 검색어는 websearch_to_tsquery 문법("구절", -제외, OR)을 따릅니다.
+     * </p>
+     *
+     * @param query  검색어
+     * @param limit  최대 조회 건수
+     * @param offset 건너뛸 건수
+     * @return 관련도가 높은 순서(같으면 최신순)의 Task 목록
+     */
+    @QueryHints(@QueryHint(name = "jakarta.persistence.query.timeout", value = "2000"))
+    @Query(nativeQuery = true, value =
+            "SELECT t.id, t.title, t.description, t.status, t.priority, t.assignee, t.created_at, t.updated_at, t.version "
+                    + "FROM tasks t, websearch_to_tsquery('simple', :query) q(query) "
+                    + "WHERE " + SEARCH_DOCUMENT + " @@ q.query "
+                    + "ORDER BY ts_rank_cd(" + SEARCH_DOCUMENT + ", q.query) DESC, t.id DESC "
+                    + "LIMIT :limit OFFSET :offset")
+    List<Task> search(@Param("query") String query,
+                      @Param("limit") int limit,
+                      @Param("offset") int offset);
+
+    /**
+     * {@link #search}가 제한 시간을 넘을 때 쓰는 대체 조회입니다. (PostgreSQL 전용)
+     * 일치하는 행 중 최신 {@code candidates}건만 골라 관련도를 계산하고 정렬하므로, 더 오래된 행은 관련도가 높아도 빠질 수 있습니다.
+     *
+     * @param query      검색어
+     * @param candidates 관련도를 계산할 최대 후보 수
+     * @param limit      최대 조회 건수
+     * @param offset     건너뛸 건수
+     * @return 후보 중 관련도가 높은 순서(같으면 최신순)의 Task 목록
+     */
+    @QueryHints(@QueryHint(name = "jakarta.persistence.query.timeout", value = "2000"))
+    @Query(nativeQuery = true, value =
+            "SELECT c.id, c.title, c.description, c.status, c.priority, c.assignee, c.created_at, c.updated_at, c.version "
+                    + "FROM (SELECT t.*, ts_rank_cd(" + SEARCH_DOCUMENT + ", q.query) AS rank "
+                    + "      FROM tasks t, websearch_to_tsquery('simple', :query) q(query) "
+                    + "      WHERE " + SEARCH_DOCUMENT + " @@ q.query "
+                    + "      ORDER BY t.id DESC "
+                    + "      LIMIT :candidates) c "
+                    + "ORDER BY c.rank DESC, c.id DESC "
+                    + "LIMIT :limit OFFSET :offset")
+    List<Task> searchRecent(@Param("query") String query,
+                            @Param("candidates") int candidates,
+                            @Param("limit") int limit,
+                            @Param("offset") int offset);
+}
@@ -0,0 +1,35 @@
+package com.example.task.repository;
+
+import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Task 목록 조회에 사용하는 검색 조건(Specification) 모음입니다.
+ * <p>
+ * 값이 null인 조건은 WHERE 절에서 아예 빠지도록 null을 반환합니다.
+ * ({@code :param IS NULL OR ...} 형태와 달리 실제 인덱스를 탈 수 있는 SQL이 만들어집니다.)
+ * </p>
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /** 키셋 페이지네이션: 커서(마지막으로 받은 id)보다 작은 id만 조회합니다. */
+    public static Specification<Task> idLessThan(Long cursor) {
+        return cursor == null ? null : (root, query, cb) -> cb.lessThan(root.get("id"), cursor);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasAssignee(String assignee) {
+        return assignee == null ? null : (root, query, cb) -> cb.equal(root.get("assignee"), assignee);
+    }
+
+    public static Specification<Task> hasPriority(Integer priority) {
+        return priority == null ? null : (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.task.repository;
+
+import com.example.task.entity.Task;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task를 SQL 한 문장(DB 왕복 한 번)으로 수정/삭제하는 리포지토리 조각(fragment)입니다. (PostgreSQL 전용)
+ * <p>
+ * {@link TaskRepository}가 이 인터페이스를 상속하므로 Spring Data가 {@link TaskWriteRepositoryImpl}을 연결합니다.
+ * 엔티티를 먼저 읽고 저장하는 대신 조건부 UPDATE/DELETE ... RETURNING으로 처리하며,
+ * expectedVersion을 넘기면 그 버전일 때만 반영합니다. (낙관적 잠금)
+ * </p>
+ * <p>
+ * 반영된 행이 없으면 {@link jakarta.persistence.EntityNotFoundException}(Task 없음) 또는
+ * {@link org.springframework.dao.OptimisticLockingFailureException}(버전 불일치)을 던집니다.
+ * 리포지토리 프록시를 거치면 EntityNotFoundException은 {@link org.springframework.orm.ObjectRetrievalFailureException}의
+ * 원인(cause)으로 전달되며, {@code TaskExceptionHandler}는 원인까지 보고 404로 응답합니다.
+ * </p>
+ */
+public interface TaskWriteRepository {
+
+    /** 부분 수정에 사용할 수 있는 컬럼 이름입니다. */
+    String TITLE = "title";
+    String DESCRIPTION = "description";
+    String STATUS = "status";
+    String PRIORITY = "priority";
+    String ASSIGNEE = "assignee";
+
+    /**
+     * 지정한 컬럼만 수정하고 version을 1 올립니다.
+     * @param id              수정할 Task의 ID
+     * @param columns         컬럼 이름 -> 새 값 (위 상수만 사용할 수 있으며, 값이 null이면 NULL로 저장합니다)
+     * @param expectedVersion 이 버전일 때만 수정 (null이면 버전과 상관없이 수정)
+     * @return 수정 전/후의 Task
+     */
+    Updated patch(Long id, Map<String, Object> columns, Long expectedVersion);
+
+    /**
+     * Task를 삭제합니다.
+     * @param id              삭제할 Task의 ID
+     * @param expectedVersion 이 버전일 때만 삭제 (null이면 버전과 상관없이 삭제)
+     * @return 삭제된 Task
+     */
+    Task deleteReturning(Long id, Long expectedVersion);
+
+    /**
+     * 새 Task들에 tasks_id_seq의 ID를 DB 왕복 한 번으로 받아 목록 순서대로 채웁니다.
+     * 여러 건을 저장하기 전에 호출하면 건마다 nextval을 부르지 않아도 되며, 채운 ID는 저장할 때 그대로 사용됩니다.
+     * (시퀀스 값은 롤백되어도 돌려받지 않으므로, 저장에 실패한 묶음의 ID는 비어 있게 됩니다)
+     * @param tasks ID가 없는 새 Task
+     */
+    void assignIds(List<Task> tasks);
+
+    /**
+     * 부분 수정 결과입니다. 같은 문장 안에서 잠근 수정 직전 행(before)과 수정된 행(after)을 담습니다.
+     */
+    final class Updated {
+        private final Task before;
+        private final Task after;
+
+        public Updated(Task before, Task after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        public Task getBefore() { return before; }
+        public Task getAfter() { return after; }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.task.repository;
+
+import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link TaskWriteRepository}의 JdbcTemplate 구현입니다.
+ * <p>
+ * JPA 트랜잭션 안에서 호출하면 같은 JDBC 커넥션을 사용하므로, 이벤트 발행 등은 호출한 트랜잭션과 함께 커밋/롤백됩니다.
+ * 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 읽어 둔 Task 엔티티에는 반영되지 않습니다.
+ * </p>
+ * <p>
+ * RETURNING은 PostgreSQL 문법이므로, 다른 DB(예: 부하 테스트용 인메모리 DB)에서는 SELECT ... FOR UPDATE로 행을 잠그고
+ * 읽은 뒤 UPDATE/DELETE하는 방식으로 같은 결과를 돌려줍니다. (왕복 횟수만 늘어납니다)
+ * ID 묶음 할당도 generate_series 대신 H2의 SYSTEM_RANGE를 사용합니다.
+ * </p>
+ */
+class TaskWriteRepositoryImpl implements TaskWriteRepository {
+
+    private static final Set<String> PATCHABLE = Set.of(TITLE, DESCRIPTION, STATUS, PRIORITY, ASSIGNEE);
+    private static final String COLUMNS = "id, title, description, status, priority, assignee, created_at, updated_at, version";
+
+    private final JdbcTemplate jdbcTemplate;
+    // DB 종류는 처음 쓰기 때 한 번만 확인합니다
+    private volatile Boolean postgres;
+
+    TaskWriteRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 수정 직전 행을 FROM 절의 서브쿼리에서 FOR UPDATE로 잠그고 읽으므로, 동시에 다른 수정이 커밋되어도
+     * RETURNING의 수정 전 값은 실제로 덮어쓴 값과 같습니다.
+     */
+    @Override
+    public Updated patch(Long id, Map<String, Object> columns, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("UPDATE tasks t SET ");
+        List<Object> args = new ArrayList<>();
+        appendAssignments(sql, args, columns);
+        if (!isPostgres()) {
+            return patchLocked(id, sql, args, expectedVersion);
+        }
+        sql.append("updated_at = ?, version = o.version + 1 FROM (SELECT ").append(COLUMNS)
+                .append(" FROM tasks WHERE id = ? FOR UPDATE) o WHERE t.id = o.id");
+        args.add(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        args.add(id);
+        if (expectedVersion != null) {
+            sql.append(" AND o.version = ?");
+            args.add(expectedVersion);
+        }
+        sql.append(" RETURNING o.title AS o_title, o.description AS o_description, o.status AS o_status,")
+                .append(" o.priority AS o_priority, o.assignee AS o_assignee, o.created_at AS o_created_at,")
+                .append(" o.updated_at AS o_updated_at, o.version AS o_version, ")
+                .append(prefixed("t."));
+
+        List<Updated> rows = jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new Updated(mapTask(rs, "o_", id), mapTask(rs, "", id)), args.toArray());
+        if (rows.isEmpty()) {
+            throw notApplied(id, expectedVersion);
+        }
+        return rows.get(0);
+    }
+
+    @Override
+    public Task deleteReturning(Long id, Long expectedVersion) {
+        if (!isPostgres()) {
+            Task deleted = lockCurrent(id, expectedVersion);
+            jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", id);
+            return deleted;
+        }
+        String sql = "DELETE FROM tasks WHERE id = ?" + (expectedVersion != null ? " AND version = ?" : "")
+                + " RETURNING " + COLUMNS;
+        Object[] args = expectedVersion != null ? new Object[]{id, expectedVersion} : new Object[]{id};
+        List<Task> rows = jdbcTemplate.query(sql, (rs, rowNum) -> mapTask(rs, "", id), args);
+        if (rows.isEmpty()) {
+            throw notApplied(id, expectedVersion);
+        }
+        return rows.get(0);
+    }
+
+    @Override
+    public void assignIds(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        String sql = isPostgres()
+                ? "SELECT nextval('tasks_id_seq') FROM generate_series(1, ?)"
+                : "SELECT NEXT VALUE FOR tasks_id_seq FROM SYSTEM_RANGE(1, ?)";
+        List<Long> ids = new ArrayList<>(jdbcTemplate.queryForList(sql, Long.class, tasks.size()));
+        // 행마다 받은 값의 순서가 결과 순서와 같다는 보장은 없으므로, 정렬해서 목록 순서대로 채웁니다.
+        ids.sort(null);
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setId(ids.get(i));
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private static void appendAssignments(StringBuilder sql, List<Object> args, Map<String, Object> columns) {
+        for (Map.Entry<String, Object> column : columns.entrySet()) {
+            if (!PATCHABLE.contains(column.getKey())) {
+                throw new IllegalArgumentException("수정할 수 없는 컬럼입니다: " + column.getKey());
+            }
+            sql.append(column.getKey()).append(" = ?, ");
+            Object value = column.getValue();
+            args.add(value instanceof TaskStatus status ? status.name() : value);
+        }
+    }
+
+    /**
+     * RETURNING이 없는 DB용 수정: 행을 잠그고 읽은 뒤 수정하고, 수정된 행을 다시 읽습니다.
+     * @param sql  SET 절의 컬럼 대입까지 채운 UPDATE 문
+     * @param args 컬럼 대입에 해당하는 인자
+     */
+    private Updated patchLocked(Long id, StringBuilder sql, List<Object> args, Long expectedVersion) {
+        Task before = lockCurrent(id, expectedVersion);
+        sql.append("updated_at = ?, version = version + 1 WHERE id = ?");
+        args.add(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        args.add(id);
+        jdbcTemplate.update(sql.toString(), args.toArray());
+        Task after = jdbcTemplate.queryForObject("SELECT " + COLUMNS + " FROM tasks WHERE id = ?",
+                (rs, rowNum) -> mapTask(rs, "", id), id);
+        return new Updated(before, after);
+    }
+
+    /**
+     * 행을 FOR UPDATE로 잠그고 현재 값을 읽습니다. 행이 없거나 버전이 다르면 예외를 던집니다.
+     */
+    private Task lockCurrent(Long id, Long expectedVersion) {
+        List<Task> rows = jdbcTemplate.query("SELECT " + COLUMNS + " FROM tasks WHERE id = ? FOR UPDATE",
+                (rs, rowNum) -> mapTask(rs, "", id), id);
+        if (rows.isEmpty() || (expectedVersion != null && !expectedVersion.equals(rows.get(0).getVersion()))) {
+            throw notApplied(id, expectedVersion);
+        }
+        return rows.get(0);
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(product);
+            postgres = result;
+        }
+        return result;
+    }
+
+    /**
+     * 반영된 행이 없을 때 원인을 구분합니다. (실패한 요청에서만 한 번 더 조회합니다)
+     */
+    private RuntimeException notApplied(Long id, Long expectedVersion) {
+        List<Long> versions = jdbcTemplate.queryForList("SELECT version FROM tasks WHERE id = ?", Long.class, id);
+        if (versions.isEmpty()) {
+            return new EntityNotFoundException("ID가 " + id + "인 Task를 찾을 수 없습니다.");
+        }
+        return new OptimisticLockingFailureException("ID가 " + id + "인 Task가 다른 요청에 의해 먼저 수정되었습니다. "
+                + "(요청 버전 " + expectedVersion + ", 현재 버전 " + versions.get(0) + ")");
+    }
+
+    private static String prefixed(String alias) {
+        StringBuilder columns = new StringBuilder();
+        for (String column : COLUMNS.split(", ")) {
+            if (!columns.isEmpty()) {
+                columns.append(", ");
+            }
+            columns.append(alias).append(column);
+        }
+        return columns.toString();
+    }
+
+    private static Task mapTask(ResultSet rs, String prefix, Long id) throws SQLException {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(rs.getString(prefix + "title"));
+        task.setDescription(rs.getString(prefix + "description"));
+        task.setStatus(TaskStatus.valueOf(rs.getString(prefix + "status")));
+        task.setPriority(rs.getObject(prefix + "priority", Integer.class));
+        task.setAssignee(rs.getString(prefix + "assignee"));
+        task.setCreatedAt(rs.getObject(prefix + "created_at", LocalDateTime.class));
+        task.setUpdatedAt(rs.getObject(prefix + "updated_at", LocalDateTime.class));
+        task.setVersion(rs.getObject(prefix + "version", Long.class));
+        return task;
+    }
+}
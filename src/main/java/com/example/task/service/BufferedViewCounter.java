@@ -0,0 +1,325 @@
+package com.example.task.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 증가분을 노드(파드) 메모리에 모았다가 Redis에 일괄 반영하는 카운터입니다. (task.view-count.mode=write-behind)
+ * <p>
+ * 조회할 때마다 Redis에 INCR을 보내는 대신 Task ID별 증가분을 메모리에 누적하고,
+ * {@code flush-interval}마다 또는 누적 증가 횟수가 {@code flush-threshold}에 도달하면
+ * 모아둔 증가분을 INCRBY 파이프라인 한 번으로 Redis에 반영합니다. (조회수 순위({@link ViewRanking})도 같은 파이프라인에서 갱신합니다)
+ * 조회수는 "Redis 값 + 아직 반영되지 않은 로컬 증가분"으로 계산합니다. 조회마다 Redis를 읽지 않도록 Redis 값은
+ * 직전 flush에서 INCRBY가 돌려준 값을 기억해 두고 씁니다. 직전 flush에 없던 Task만 처음 한 번 GET으로 읽으므로,
+ * 다른 노드의 증가분은 이 노드의 다음 flush 때 반영됩니다.
+ * </p>
+ * <p>
+ * 증가분은 ConcurrentHashMap의 merge로 누적합니다. 맵은 내부적으로 버킷 단위로 잠기므로 서로 다른 Task의 증가는
+ * 경합하지 않고, flush 시 remove로 꺼낸 값은 원자적으로 넘어오므로 증가분이 유실되지 않습니다.
+ * 보관하는 Task ID 수는 {@code max-pending-keys}로 제한되며, 상한에 도달하면 새 ID는 Redis에 바로 반영합니다.
+ * </p>
+ * <p>
+ * flush가 증가분을 꺼낸 뒤 INCRBY가 끝나기 전에 Task가 삭제되면 INCRBY가 지워진 키를 다시 만들 수 있으므로,
+ * flush 도중 삭제된 ID를 기록해 두었다가 INCRBY가 끝난 뒤 해당 키를 한 번 더 지웁니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "task.view-count.mode", havingValue = "write-behind")
+public class BufferedViewCounter implements ViewCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(BufferedViewCounter.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewCountReader viewCountReader;
+    private final ViewRanking viewRanking;
+    private final int flushThreshold;
+    private final int maxPendingKeys;
+
+    // Task ID별로 아직 Redis에 반영되지 않은 증가분
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    private final AtomicLong pendingIncrements = new AtomicLong();
+    // 반영되지 않은 증가분 중 가장 오래된 것이 쌓인 시각 (System.nanoTime, 없으면 0)
+    private final AtomicLong oldestPendingNanos = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // 직전 flush(또는 처음 조회할 때 GET)에서 알게 된 Task ID별 Redis 조회수. flush마다 그 flush에 포함된 ID로 교체합니다.
+    private volatile ConcurrentHashMap<Long, Long> redisCounts = new ConcurrentHashMap<>();
+    // 진행 중인 flush가 시작된 뒤 삭제된 Task ID
+    private final Set<Long> removedDuringFlush = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flusher;
+
+    private final DistributionSummary flushSize;
+    private final Timer flushLag;
+    private final Counter flushFailures;
+    private final Counter directWrites;
+
+    public BufferedViewCounter(RedisTemplate<String, String> redisTemplate,
+                               ViewCountReader viewCountReader,
+                               ViewRanking viewRanking,
+                               MeterRegistry meterRegistry,
+                               @Value("${task.view-count.flush-interval:1s}") Duration flushInterval,
+                               @Value("${task.view-count.flush-threshold:1000}") int flushThreshold,
+                               @Value("${task.view-count.max-pending-keys:10000}") int maxPendingKeys) {
+        this.redisTemplate = redisTemplate;
+        this.viewCountReader = viewCountReader;
+        this.viewRanking = viewRanking;
+        this.flushThreshold = flushThreshold;
+        this.maxPendingKeys = maxPendingKeys;
+
+        this.flushSize = DistributionSummary.builder("task.viewcount.flush.size")
+                .description("한 번의 flush로 Redis에 반영한 Task ID 수")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("task.viewcount.flush.lag")
+                .description("증가분이 메모리에 쌓인 뒤 Redis에 반영되기까지 걸린 최대 시간")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("task.viewcount.flush.failures").register(meterRegistry);
+        this.directWrites = Counter.builder("task.viewcount.direct.writes")
+                .description("메모리 상한에 걸려 Redis에 바로 반영한 증가 횟수")
+                .register(meterRegistry);
+        meterRegistry.gauge("task.viewcount.pending.keys", pending, Map::size);
+        meterRegistry.gauge("task.viewcount.pending.increments", pendingIncrements, AtomicLong::get);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-count-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long incrementAndGet(Long taskId) {
+        if (pending.size() >= maxPendingKeys && !pending.containsKey(taskId)) {
+            // 메모리 상한에 도달했으므로 이번 증가는 Redis에 바로 반영하고, flush를 앞당깁니다.
+            directWrites.increment();
+            requestFlush();
+            List<Object> results = redisTemplate.executePipelined(incrementAll(Map.of(taskId, 1L)));
+            Object count = results.isEmpty() ? null : results.get(0);
+            return count instanceof Long value ? value : 0L;
+        }
+
+        long localDelta = pending.merge(taskId, 1L, Long::sum);
+        oldestPendingNanos.compareAndSet(0L, System.nanoTime());
+        if (pendingIncrements.incrementAndGet() >= flushThreshold) {
+            requestFlush();
+        }
+        return redisCount(taskId) + localDelta;
+    }
+
+    @Override
+    public long getCount(Long taskId) {
+        return redisCount(taskId) + pending.getOrDefault(taskId, 0L);
+    }
+
+    @Override
+    public Map<Long, Long> getCounts(Collection<Long> taskIds) {
+        Map<Long, Long> counts = viewCountReader.getCounts(taskIds);
+        counts.replaceAll((taskId, count) -> count + pending.getOrDefault(taskId, 0L));
+        return counts;
+    }
+
+    @Override
+    public void remove(Long taskId) {
+        viewCountReader.forget(taskId);
+        removedDuringFlush.add(taskId);
+        redisCounts.remove(taskId);
+        Long dropped = pending.remove(taskId);
+        if (dropped != null) {
+            pendingIncrements.addAndGet(-dropped);
+        }
+        redisTemplate.delete(ViewCounter.key(taskId));
+        viewRanking.remove(List.of(taskId));
+    }
+
+    @Override
+    public void removeAll(Collection<Long> taskIds) {
+        List<String> keys = new ArrayList<>(taskIds.size());
+        for (Long taskId : taskIds) {
+            viewCountReader.forget(taskId);
+            removedDuringFlush.add(taskId);
+            redisCounts.remove(taskId);
+            Long dropped = pending.remove(taskId);
+            if (dropped != null) {
+                pendingIncrements.addAndGet(-dropped);
+            }
+            keys.add(ViewCounter.key(taskId));
+        }
+        redisTemplate.delete(keys);
+        viewRanking.remove(taskIds);
+    }
+
+    /**
+     * 메모리에 쌓인 증가분을 INCRBY 파이프라인 한 번으로 Redis에 반영합니다.
+     * 반영에 실패하면 꺼냈던 증가분을 다시 되돌려 놓아 다음 flush에서 재시도합니다.
+     * 반영에 성공하면 INCRBY가 돌려준 값을 이후 조회의 Redis 조회수로 씁니다.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            // 이 시점 이전에 삭제된 Task는 증가분도 함께 버렸으므로 INCRBY가 키를 되살리지 않습니다.
+            removedDuringFlush.clear();
+            if (pending.isEmpty()) {
+                redisCounts = new ConcurrentHashMap<>();
+                return;
+            }
+            long startedAt = oldestPendingNanos.getAndSet(0L);
+            Map<Long, Long> batch = new HashMap<>();
+            long total = 0;
+            for (Long taskId : pending.keySet()) {
+                Long delta = pending.remove(taskId);
+                if (delta != null) {
+                    batch.put(taskId, delta);
+                    total += delta;
+                }
+            }
+            pendingIncrements.addAndGet(-total);
+
+            List<Object> results;
+            try {
+                results = redisTemplate.executePipelined(incrementAll(batch));
+            } catch (DataAccessException e) {
+                batch.forEach((taskId, delta) -> pending.merge(taskId, delta, Long::sum));
+                pendingIncrements.addAndGet(total);
+                oldestPendingNanos.compareAndSet(0L, startedAt == 0L ? System.nanoTime() : startedAt);
+                flushFailures.increment();
+                throw e;
+            }
+            rememberRedisCounts(batch, results);
+            deleteRemovedDuringFlush(batch);
+
+            flushSize.record(batch.size());
+            if (startedAt != 0L) {
+                flushLag.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 스케줄러를 멈추고 남은 증가분을 마지막으로 반영합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 shutdown()의 마지막 flush가 처리합니다.
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("조회수 증가분을 Redis에 반영하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private long redisCount(Long taskId) {
+        Long known = redisCounts.get(taskId);
+        if (known != null) {
+            return known;
+        }
+        String countStr = redisTemplate.opsForValue().get(ViewCounter.key(taskId));
+        long count = countStr == null ? 0L : Long.parseLong(countStr);
+        if (redisCounts.size() < maxPendingKeys) {
+            redisCounts.putIfAbsent(taskId, count);
+        }
+        return count;
+    }
+
+    /**
+     * INCRBY 결과로 Redis 조회수를 교체합니다. 파이프라인 결과는 batch를 순회한 순서대로 Task마다 같은 개수씩 들어 있고
+     * 그중 첫 번째가 INCRBY 결과입니다. (나머지는 순위 갱신 결과)
+     * 이번 flush에 없던 ID는 버리므로 오래 조회되지 않은 Task는 다음 조회 때 다시 읽습니다.
+     */
+    private void rememberRedisCounts(Map<Long, Long> batch, List<Object> results) {
+        ConcurrentHashMap<Long, Long> counts = new ConcurrentHashMap<>(batch.size() * 2);
+        int stride = batch.isEmpty() ? 0 : results.size() / batch.size();
+        int i = 0;
+        for (Long taskId : batch.keySet()) {
+            Object count = stride == 0 ? null : results.get(i * stride);
+            if (count instanceof Long value && !removedDuringFlush.contains(taskId)) {
+                counts.put(taskId, value);
+            }
+            i++;
+        }
+        redisCounts = counts;
+    }
+
+    /**
+     * flush 도중 삭제된 Task의 키를 INCRBY가 다시 만들었을 수 있으므로 한 번 더 지웁니다.
+     */
+    private void deleteRemovedDuringFlush(Map<Long, Long> batch) {
+        List<Long> revived = new ArrayList<>();
+        for (Long taskId : removedDuringFlush) {
+            if (batch.containsKey(taskId)) {
+                revived.add(taskId);
+            }
+        }
+        if (revived.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(revived.size());
+        for (Long taskId : revived) {
+            keys.add(ViewCounter.key(taskId));
+        }
+        redisTemplate.delete(keys);
+        viewRanking.remove(revived);
+    }
+
+    private SessionCallback<Object> incrementAll(Map<Long, Long> batch) {
+        return new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                batch.forEach((taskId, delta) -> {
+                    ops.opsForValue().increment(ViewCounter.key(taskId), delta);
+                    viewRanking.addViews(ops, taskId, delta);
+                });
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.task.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회할 때마다 Redis에 바로 반영하는 조회수 카운터입니다. (task.view-count.mode=sync, 기본값)
+ * <p>
+ * Redis의 INCR 명령어는 증가된 값을 돌려주므로, 증가와 조회를 왕복 한 번으로 처리합니다.
+ * 조회수 순위({@link ViewRanking}) 갱신도 같은 파이프라인에 실어 보내므로 왕복 횟수는 늘지 않습니다.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "task.view-count.mode", havingValue = "sync", matchIfMissing = true)
+public class RedisViewCounter implements ViewCounter {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewCountReader viewCountReader;
+    private final ViewRanking viewRanking;
+
+    public RedisViewCounter(RedisTemplate<String, String> redisTemplate,
+                            ViewCountReader viewCountReader,
+                            ViewRanking viewRanking) {
+        this.redisTemplate = redisTemplate;
+        this.viewCountReader = viewCountReader;
+        this.viewRanking = viewRanking;
+    }
+
+    @Override
+    public long incrementAndGet(Long taskId) {
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForValue().increment(ViewCounter.key(taskId));
+                viewRanking.addViews(ops, taskId, 1);
+                return null;
+            }
+        });
+        Object count = results.isEmpty() ? null : results.get(0);
+        return count instanceof Long value ? value : 0L;
+    }
+
+    @Override
+    public long getCount(Long taskId) {
+        String countStr = redisTemplate.opsForValue().get(ViewCounter.key(taskId));
+        return countStr == null ? 0L : Long.parseLong(countStr);
+    }
+
+    @Override
+    public Map<Long, Long> getCounts(Collection<Long> taskIds) {
+        return viewCountReader.getCounts(taskIds);
+    }
+
+    @Override
+    public void remove(Long taskId) {
+        viewCountReader.forget(taskId);
+        redisTemplate.delete(ViewCounter.key(taskId));
+        viewRanking.remove(List.of(taskId));
+    }
+
+    @Override
+    public void removeAll(Collection<Long> taskIds) {
+        List<String> keys = new ArrayList<>(taskIds.size());
+        for (Long taskId : taskIds) {
+            viewCountReader.forget(taskId);
+            keys.add(ViewCounter.key(taskId));
+        }
+        redisTemplate.delete(keys);
+        viewRanking.remove(taskIds);
+    }
+}
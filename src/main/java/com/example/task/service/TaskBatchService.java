@@ -0,0 +1,378 @@
+package com.example.task.service;
+
+import com.example.task.dto.TaskBatchItemResultDto;
+import com.example.task.dto.TaskBatchItemResultDto.Result;
+import com.example.task.dto.TaskBatchResponseDto;
+import com.example.task.dto.TaskBatchUpdateDto;
+import com.example.task.dto.TaskRequestDto;
+import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+import com.example.task.repository.TaskRepository;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 Task를 한 번에 생성/수정/삭제하는 서비스입니다.
+ * <p>
+ * 요청 항목을 끝까지 메모리에 올리지 않고 읽는 대로 {@code chunk-size}개씩 모아,
+ * 묶음마다 하나의 트랜잭션에서 JDBC 배치로 저장합니다. (hibernate.jdbc.batch_size 참고)
+ * 캐시 무효화는 행마다 하지 않고, 요청 전체를 처리한 뒤 한 번에 수행합니다. (조회수 삭제는 커밋 후 {@link ViewCountCleaner}가 처리합니다)
+ * 변경 이벤트({@link TaskChangedEvent})는 묶음마다 하나씩 발행되어 그 묶음이 커밋된 뒤에 반영됩니다.
+ * </p>
+ * <p>
+ * 한 요청의 항목 수는 {@code max-items}로 제한합니다.
+ * 항목마다 결과(생성/수정/삭제, 없음, 유효성 오류, 저장 실패)를 돌려주며,
+ * 묶음 저장 중 DB 오류가 나면 해당 묶음의 항목만 FAILED로 처리하고 나머지 묶음은 계속 진행합니다.
+ * 본문이 중간에 잘못되어 더 읽을 수 없으면 그 앞의 항목까지 처리하고, 읽지 못한 위치를 INVALID로 남긴 뒤 멈춥니다.
+ * (앞쪽 묶음은 이미 커밋되었으므로 요청 전체를 실패로 응답하지 않습니다)
+ * </p>
+ */
+@Service
+public class TaskBatchService {
+
+    private final TaskRepository taskRepository;
+    private final TaskCache taskCache;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public TaskBatchService(TaskRepository taskRepository,
+                            TaskCache taskCache,
+                            Validator validator,
+                            PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${task.batch.chunk-size:500}") int chunkSize,
+                            @Value("${task.batch.max-items:10000}") int maxItems) {
+        this.taskRepository = taskRepository;
+        this.taskCache = taskCache;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 여러 Task를 생성합니다.
+     * @param items 생성할 Task 정보 (요청 본문에서 읽는 순서대로)
+     * @return 항목별 처리 결과
+     */
+    public TaskBatchResponseDto createTasks(Iterator<TaskRequestDto> items) {
+        List<TaskBatchItemResultDto> results = new ArrayList<>();
+        Set<String> staleKeys = new LinkedHashSet<>();
+        // 요청 순서대로 저장해야 ID도 항목 순서대로 증가하므로, 넣은 순서를 지키는 맵을 사용합니다.
+        Map<Integer, Task> chunk = new LinkedHashMap<>();
+
+        BodyItems<TaskRequestDto> body = new BodyItems<>(items);
+        int index = 0;
+        try {
+            while (body.hasNext()) {
+                if (index >= maxItems) {
+                    results.add(limitExceeded(index));
+                    break;
+                }
+                TaskRequestDto dto = body.next();
+                String invalid = validate(dto);
+                if (invalid != null) {
+                    results.add(new TaskBatchItemResultDto(index, null, Result.INVALID, invalid));
+                } else {
+                    chunk.put(index, newTaskFromDto(dto));
+                }
+                index++;
+                if (chunk.size() >= chunkSize) {
+                    saveCreateChunk(chunk, results, staleKeys);
+                }
+            }
+            body.addUnreadable(index, results);
+            saveCreateChunk(chunk, results, staleKeys);
+        } finally {
+            // 요청이 중간에 실패하더라도 이미 커밋된 묶음의 캐시는 무효화합니다.
+            taskCache.evictHeadWindows(staleKeys);
+        }
+        return toResponse(results);
+    }
+
+    /**
+     * 여러 Task를 수정합니다. 각 항목은 단건 수정(PUT)과 같이 모든 필드를 덮어씁니다.
+     * @param items 수정할 Task 정보 (ID 포함)
+     * @return 항목별 처리 결과
+     */
+    public TaskBatchResponseDto updateTasks(Iterator<TaskBatchUpdateDto> items) {
+        List<TaskBatchItemResultDto> results = new ArrayList<>();
+        Set<String> staleKeys = new LinkedHashSet<>();
+        Set<Long> updatedIds = new LinkedHashSet<>();
+        Map<Integer, TaskBatchUpdateDto> chunk = new LinkedHashMap<>();
+
+        BodyItems<TaskBatchUpdateDto> body = new BodyItems<>(items);
+        int index = 0;
+        try {
+            while (body.hasNext()) {
+                if (index >= maxItems) {
+                    results.add(limitExceeded(index));
+                    break;
+                }
+                TaskBatchUpdateDto dto = body.next();
+                String invalid = dto.getId() == null ? "id는 필수입니다."
+                        : dto.getStatus() == null ? "status는 필수입니다."
+                        : validate(dto);
+                if (invalid != null) {
+                    results.add(new TaskBatchItemResultDto(index, dto.getId(), Result.INVALID, invalid));
+                } else {
+                    chunk.put(index, dto);
+                }
+                index++;
+                if (chunk.size() >= chunkSize) {
+                    saveUpdateChunk(chunk, results, staleKeys, updatedIds);
+                }
+            }
+            body.addUnreadable(index, results);
+            saveUpdateChunk(chunk, results, staleKeys, updatedIds);
+        } finally {
+            taskCache.evictHeadWindows(staleKeys);
+            taskCache.evictTasks(updatedIds);
+        }
+        return toResponse(results);
+    }
+
+    /**
+     * 여러 Task를 삭제합니다. 묶음마다 DELETE 문 하나로 삭제합니다.
+     * @param ids 삭제할 Task ID
+     * @return 항목별 처리 결과
+     */
+    public TaskBatchResponseDto deleteTasks(Iterator<Long> ids) {
+        List<TaskBatchItemResultDto> results = new ArrayList<>();
+        Set<String> staleKeys = new LinkedHashSet<>();
+        Set<Long> deletedIds = new LinkedHashSet<>();
+        Map<Integer, Long> chunk = new LinkedHashMap<>();
+
+        BodyItems<Long> body = new BodyItems<>(ids);
+        int index = 0;
+        try {
+            while (body.hasNext()) {
+                if (index >= maxItems) {
+                    results.add(limitExceeded(index));
+                    break;
+                }
+                Long id = body.next();
+                if (id == null) {
+                    results.add(new TaskBatchItemResultDto(index, null, Result.INVALID, "id는 필수입니다."));
+                } else {
+                    chunk.put(index, id);
+                }
+                index++;
+                if (chunk.size() >= chunkSize) {
+                    deleteChunk(chunk, results, staleKeys, deletedIds);
+                }
+            }
+            body.addUnreadable(index, results);
+            deleteChunk(chunk, results, staleKeys, deletedIds);
+        } finally {
+            taskCache.evictHeadWindows(staleKeys);
+            // 조회수/순위 정리는 커밋 후 ViewCountCleaner가 비동기로 처리합니다.
+            taskCache.evictTasks(deletedIds);
+        }
+        return toResponse(results);
+    }
+
+    // --- Private Helper Methods ---
+
+    private void saveCreateChunk(Map<Integer, Task> chunk, List<TaskBatchItemResultDto> results, Set<String> staleKeys) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Task> tasks = new ArrayList<>(chunk.values());
+                taskRepository.assignIds(tasks);
+                List<Task> saved = taskRepository.saveAll(tasks);
+                eventPublisher.publishEvent(new TaskChangedEvent(saved.stream().map(TaskChangedEvent.Change::created).toList()));
+            });
+            chunk.forEach((index, task) -> {
+                results.add(new TaskBatchItemResultDto(index, task.getId(), Result.CREATED, null));
+                staleKeys.addAll(taskCache.headWindowKeys(task));
+            });
+        } catch (DataAccessException | TransactionException e) {
+            chunk.keySet().forEach(index -> results.add(failed(index, null, e)));
+        }
+        chunk.clear();
+    }
+
+    private void saveUpdateChunk(Map<Integer, TaskBatchUpdateDto> chunk, List<TaskBatchItemResultDto> results,
+                                 Set<String> staleKeys, Set<Long> updatedIds) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<TaskBatchItemResultDto> chunkResults = new ArrayList<>();
+        Set<String> chunkKeys = new LinkedHashSet<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<Long> ids = chunk.values().stream().map(TaskBatchUpdateDto::getId).collect(Collectors.toSet());
+                Map<Long, Task> found = taskRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(Task::getId, task -> task));
+                List<TaskChangedEvent.Change> changes = new ArrayList<>();
+                chunk.forEach((index, dto) -> {
+                    Task task = found.get(dto.getId());
+                    if (task == null) {
+                        chunkResults.add(new TaskBatchItemResultDto(index, dto.getId(), Result.NOT_FOUND, null));
+                        return;
+                    }
+                    chunkKeys.addAll(taskCache.headWindowKeys(task));
+                    Task before = TaskChangedEvent.snapshot(task);
+                    TaskService.updateTaskFromDto(task, dto);
+                    chunkKeys.addAll(taskCache.headWindowKeys(task));
+                    changes.add(TaskChangedEvent.Change.updated(before, task));
+                    chunkResults.add(new TaskBatchItemResultDto(index, dto.getId(), Result.UPDATED, null));
+                });
+                // 변경 감지(dirty checking)로 커밋 시점에 UPDATE가 JDBC 배치로 나갑니다.
+                eventPublisher.publishEvent(new TaskChangedEvent(changes));
+            });
+            results.addAll(chunkResults);
+            staleKeys.addAll(chunkKeys);
+            chunkResults.stream()
+                    .filter(result -> result.getResult() == Result.UPDATED)
+                    .forEach(result -> updatedIds.add(result.getId()));
+        } catch (DataAccessException | TransactionException e) {
+            chunk.forEach((index, dto) -> results.add(failed(index, dto.getId(), e)));
+        }
+        chunk.clear();
+    }
+
+    private void deleteChunk(Map<Integer, Long> chunk, List<TaskBatchItemResultDto> results,
+                             Set<String> staleKeys, Set<Long> deletedIds) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            List<Task> found = transactionTemplate.execute(status -> {
+                List<Task> tasks = taskRepository.findAllById(new LinkedHashSet<>(chunk.values()));
+                if (!tasks.isEmpty()) {
+                    taskRepository.deleteAllByIdInBatch(tasks.stream().map(Task::getId).toList());
+                    eventPublisher.publishEvent(new TaskChangedEvent(tasks.stream().map(TaskChangedEvent.Change::deleted).toList()));
+                }
+                return tasks;
+            });
+            Set<Long> foundIds = new LinkedHashSet<>();
+            for (Task task : found) {
+                foundIds.add(task.getId());
+                staleKeys.addAll(taskCache.headWindowKeys(task));
+            }
+            chunk.forEach((index, id) -> results.add(new TaskBatchItemResultDto(index, id,
+                    foundIds.contains(id) ? Result.DELETED : Result.NOT_FOUND, null)));
+            deletedIds.addAll(foundIds);
+        } catch (DataAccessException | TransactionException e) {
+            chunk.forEach((index, id) -> results.add(failed(index, id, e)));
+        }
+        chunk.clear();
+    }
+
+    private String validate(TaskRequestDto dto) {
+        Set<ConstraintViolation<TaskRequestDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 최대 항목 수를 넘은 지점을 INVALID 결과로 남기고, 그 뒤의 항목은 읽지 않습니다.
+     * (본문을 끝까지 읽어야 개수를 알 수 있으므로, 앞쪽 묶음은 이미 반영된 상태입니다.)
+     */
+    private TaskBatchItemResultDto limitExceeded(int index) {
+        return new TaskBatchItemResultDto(index, null, Result.INVALID,
+                "한 번에 처리할 수 있는 항목은 최대 " + maxItems + "개입니다. 이 항목부터는 처리하지 않았습니다.");
+    }
+
+    static Task newTaskFromDto(TaskRequestDto dto) {
+        Task task = new Task();
+        task.setTitle(dto.getTitle());
+        task.setDescription(dto.getDescription());
+        task.setStatus(dto.getStatus() == null ? TaskStatus.TODO : dto.getStatus());
+        task.setPriority(dto.getPriority());
+        task.setAssignee(dto.getAssignee());
+        return task;
+    }
+
+    private static TaskBatchItemResultDto failed(int index, Long id, RuntimeException e) {
+        return new TaskBatchItemResultDto(index, id, Result.FAILED, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+    }
+
+    private static TaskBatchResponseDto toResponse(List<TaskBatchItemResultDto> results) {
+        results.sort(Comparator.comparingInt(TaskBatchItemResultDto::getIndex));
+        return new TaskBatchResponseDto(results);
+    }
+
+    /**
+     * 요청 본문의 항목을 하나씩 미리 읽어 두는 Iterator 래퍼입니다.
+     * 본문이 잘못되어(JSON 문법 오류, 타입이 맞지 않는 항목 등) 더 읽을 수 없으면 오류를 기억하고 끝난 것으로 처리합니다.
+     */
+    private static final class BodyItems<T> {
+        private final Iterator<T> items;
+        private T next;
+        private boolean fetched;
+        private String error;
+
+        private BodyItems(Iterator<T> items) {
+            this.items = items;
+        }
+
+        private boolean hasNext() {
+            if (fetched) {
+                return true;
+            }
+            if (error != null) {
+                return false;
+            }
+            try {
+                if (!items.hasNext()) {
+                    return false;
+                }
+                next = items.next();
+                fetched = true;
+                return true;
+            } catch (RuntimeJsonMappingException e) {
+                error = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            } catch (RuntimeException e) {
+                if (!(e.getCause() instanceof IOException)) {
+                    throw e;
+                }
+                error = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            }
+            return false;
+        }
+
+        private T next() {
+            fetched = false;
+            return next;
+        }
+
+        /** 본문을 끝까지 읽지 못했으면 읽지 못한 위치를 INVALID 결과로 남깁니다. */
+        private void addUnreadable(int index, List<TaskBatchItemResultDto> results) {
+            if (error != null) {
+                results.add(new TaskBatchItemResultDto(index, null, Result.INVALID,
+                        "요청 본문을 읽을 수 없어 이 항목부터는 처리하지 않았습니다: " + error));
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.task.service;
+
+import com.example.task.config.CacheConfig;
+import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Task 서비스들이 함께 사용하는 캐시 접근과 무효화 규칙을 모아둔 컴포넌트입니다.
+ * <ul>
+ *     <li>'tasks' 캐시: 필터 조합별 목록 첫 페이지 구간. 쓰기 시 해당 Task가 보일 수 있는 키(최대 8개)만 무효화합니다.</li>
+ *     <li>'task' 캐시: ID별 Task 상세</li>
+ * </ul>
+ */
+@Component
+public class TaskCache {
+
+    // 'tasks' 캐시에서 필터 조합별 첫 페이지를 구분하는 키 접두사입니다.
+    private static final String HEAD_PAGE_KEY_PREFIX = "head:";
+
+    private final Cache tasksCache;
+    private final Cache taskCache;
+    private final int bulkEvictThreshold;
+
+    public TaskCache(CacheManager cacheManager,
+                     @Value("${task.cache.bulk-evict-threshold:200}") int bulkEvictThreshold) {
+        this.tasksCache = cacheManager.getCache(CacheConfig.TASKS_CACHE);
+        this.taskCache = cacheManager.getCache(CacheConfig.TASK_CACHE);
+        this.bulkEvictThreshold = bulkEvictThreshold;
+    }
+
+    /**
+     * 필터 조합의 첫 페이지 구간을 캐시에서 가져오고, 없으면 loader로 조회해 저장합니다.
+     * 어떤 size로 요청하든 같은 구간을 잘라 쓰므로 필터 조합당 캐시 키는 하나입니다.
+     * 같은 키의 미스가 동시에 몰리면 loader는 한 번만 실행됩니다. ({@link com.example.task.cache.TwoLevelCache} 참고)
+     */
+    public List<Task> getHeadWindow(TaskStatus status, String assignee, Integer priority, Supplier<List<Task>> loader) {
+        return tasksCache.get(headWindowKey(status, assignee, priority), loader::get);
+    }
+
+    /**
+     * Task가 포함될 수 있는 모든 첫 페이지 캐시 키를 구합니다.
+     * 각 필터는 "조건 없음" 또는 "Task의 값과 같음" 두 경우뿐이므로 최대 8개입니다.
+     * @param task 기준 Task
+     * @return 해당 Task가 보일 수 있는 캐시 키 집합
+     */
+    public Set<String> headWindowKeys(Task task) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (TaskStatus status : new TaskStatus[]{null, task.getStatus()}) {
+            for (String assignee : new String[]{null, task.getAssignee()}) {
+                for (Integer priority : new Integer[]{null, task.getPriority()}) {
+                    keys.add(headWindowKey(status, assignee, priority));
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * 첫 페이지 캐시와 Task 상세 캐시를 현재 트랜잭션이 커밋된 뒤에 무효화합니다. (트랜잭션 밖이면 바로 무효화합니다)
+     * <p>
+     * 커밋 전에 지우면 그 사이 다른 요청이 아직 바뀌기 전의 행을 DB에서 읽어 캐시에 다시 넣을 수 있으므로,
+     * 커밋이 끝난 뒤에 지웁니다. 롤백되면 바뀐 것이 없으므로 지우지 않습니다.
+     * </p>
+     * @param headKeys 무효화할 첫 페이지 캐시 키
+     * @param taskId   무효화할 Task 상세의 ID (생성이면 null)
+     */
+    public void evictAfterCommit(Set<String> headKeys, Long taskId) {
+        Runnable evict = () -> {
+            evictHeadWindows(headKeys);
+            if (taskId != null) {
+                evictTask(taskId);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+
+    public void evictHeadWindows(Set<String> keys) {
+        for (String key : keys) {
+            tasksCache.evict(key);
+        }
+    }
+
+    /**
+     * 'task' 캐시에서 Task를 찾고, 없으면 loader로 조회해 저장합니다.
+     * 목록 첫 페이지와 같이 키마다 로드를 하나만 실행하고, 로드하는 동안 무효화된 값은 저장하지 않습니다.
+     * loader가 던진 예외(예: Task 없음)는 감싸지 않고 그대로 던지며, 이때는 아무것도 캐시하지 않습니다.
+     */
+    public Task getTask(Long id, Supplier<Task> loader) {
+        try {
+            return taskCache.get(id, loader::get);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evictTask(Long id) {
+        taskCache.evict(id);
+    }
+
+    /**
+     * 여러 Task를 'task' 캐시에서 무효화합니다.
+     * 건수가 {@code bulk-evict-threshold}를 넘으면 키마다 삭제/전파하는 대신 캐시 전체를 한 번에 비웁니다.
+     */
+    public void evictTasks(Collection<Long> ids) {
+        if (ids.size() > bulkEvictThreshold) {
+            taskCache.clear();
+            return;
+        }
+        for (Long id : ids) {
+            taskCache.evict(id);
+        }
+    }
+
+    private static String headWindowKey(TaskStatus status, String assignee, Integer priority) {
+        return HEAD_PAGE_KEY_PREFIX
+                + (status == null ? "*" : status.name()) + ":"
+                + (priority == null ? "*" : priority) + ":"
+                + (assignee == null ? "*" : assignee);
+    }
+}
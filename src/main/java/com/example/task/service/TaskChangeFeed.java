@@ -0,0 +1,601 @@
+package com.example.task.service;
+
+import com.example.task.dto.TaskChangeDto;
+import com.example.task.dto.TaskResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Task 생성/수정/삭제를 SSE(GET /api/tasks/changes)로 구독자에게 보내는 서비스입니다.
+ * <p>
+ * 쓰기가 커밋되면 변경을 Redis Stream({@code task:changes})에 XADD하고, 모든 파드는 각자 스레드 하나가 전용 연결 하나로
+ * 이 스트림을 XREAD BLOCK으로 읽어 자기 파드에 연결된 구독자에게 나누어 보냅니다.
+ * 따라서 어느 파드에서 쓰든 모든 파드의 구독자가 같은 순서로 같은 이벤트를 받습니다.
+ * 구독 연결은 Servlet 비동기 요청({@link SseEmitter})으로 유지하므로, 대기 중인 연결은 요청 스레드를 차지하지 않습니다.
+ * </p>
+ * <p>
+ * 읽기 스레드와 하트비트는 이벤트를 구독자별 보낼 목록(최대 {@code send-buffer}개)에 넣기만 하고 소켓에 직접 쓰지 않습니다.
+ * 실제 전송은 전송 스레드({@code send-threads}개)가 구독자 단위로 나누어 맡고, 한 번에 {@code SEND_SLICE}개까지만 보낸 뒤
+ * 다음 구독자에게 차례를 넘기므로, 느린 클라이언트는 주로 자기 전송만 늦어집니다.
+ * 보낼 목록이 가득 찬 구독자는 따라오지 못하는 것으로 보고 연결을 끊습니다. 클라이언트는 Last-Event-ID로 다시 연결해 이어 받습니다.
+ * (소켓 쓰기가 완전히 막힌 연결은 Tomcat의 쓰기 제한 시간이 지나야 전송 스레드를 돌려줍니다.
+ * Java 21의 가상 스레드는 Tomcat 내부의 synchronized 안에서 막히면 캐리어 스레드를 붙잡으므로 쓰지 않습니다)
+ * </p>
+ * <p>
+ * 이벤트 ID는 스트림 항목 ID입니다. 다시 연결한 클라이언트가 Last-Event-ID를 보내면 그 다음 항목부터 스트림에서 다시 읽어 보내고,
+ * 그 사이 새로 들어온 이벤트는 재전송이 끝날 때까지 모아 두었다가 이어서 보냅니다. (중복/누락 없이 ID 순서대로)
+ * 스트림은 최근 {@code stream-max-len}개 정도만 보관하므로, 그보다 오래 끊겼거나 놓친 이벤트가 {@code max-replay}개를 넘으면
+ * {@code reset} 이벤트를 보냅니다. 이 이벤트를 받은 클라이언트는 목록을 다시 조회해야 합니다.
+ * </p>
+ * <p>
+ * 지표: {@code task.changes.subscribers}(이 파드의 구독자 수), {@code task.changes.dropped}(전송 실패나 지연으로 끊은 구독자 수)
+ * </p>
+ */
+@Service
+public class TaskChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskChangeFeed.class);
+
+    // 변경 이벤트 스트림 (항목 필드: type, id, data)
+    private static final String STREAM_KEY = "task:changes";
+    private static final byte[] STREAM_KEY_BYTES = STREAM_KEY.getBytes(StandardCharsets.UTF_8);
+
+    private static final String TYPE_CREATED = "created";
+    private static final String TYPE_UPDATED = "updated";
+    private static final String TYPE_DELETED = "deleted";
+    private static final String TYPE_RESET = "reset";
+
+    private static final Pattern STREAM_ID = Pattern.compile("\\d+-\\d+");
+    private static final int READ_COUNT = 100;
+    // 전송 스레드가 한 구독자에게 이어서 보내는 최대 이벤트 수 (넘으면 다른 구독자에게 차례를 넘깁니다)
+    private static final int SEND_SLICE = 32;
+    private static final Duration READ_ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long streamMaxLen;
+    private final int maxReplay;
+    private final int maxSubscribers;
+    private final int sendBuffer;
+    private final Duration timeout;
+    private final Duration pollTimeout;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter dropped;
+    private final Thread reader;
+    // 구독자별 전송을 맡는 스레드 (소켓 쓰기가 막혀도 읽기 스레드를 붙잡지 않습니다)
+    private final ExecutorService sender;
+    private volatile boolean running = true;
+
+    public TaskChangeFeed(StringRedisTemplate redisTemplate,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${task.changes.enabled:true}") boolean enabled,
+                          @Value("${task.changes.stream-max-len:10000}") long streamMaxLen,
+                          @Value("${task.changes.max-replay:1000}") int maxReplay,
+                          @Value("${task.changes.max-subscribers:5000}") int maxSubscribers,
+                          @Value("${task.changes.send-buffer:256}") int sendBuffer,
+                          @Value("${task.changes.send-threads:8}") int sendThreads,
+                          @Value("${task.changes.timeout:30m}") Duration timeout,
+                          @Value("${task.changes.poll-timeout:2s}") Duration pollTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.streamMaxLen = streamMaxLen;
+        this.maxReplay = maxReplay;
+        this.maxSubscribers = maxSubscribers;
+        this.sendBuffer = sendBuffer;
+        this.timeout = timeout;
+        this.pollTimeout = pollTimeout;
+        this.dropped = Counter.builder("task.changes.dropped")
+                .description("전송에 실패했거나 전송이 밀려 끊은 변경 피드 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("task.changes.subscribers", subscribers, Set::size)
+                .description("이 파드에 연결된 변경 피드 구독자 수")
+                .register(meterRegistry);
+        this.reader = new Thread(this::readLoop, "task-change-feed");
+        this.reader.setDaemon(true);
+        // 구독자마다 대기 중인 전송 작업은 많아야 하나이므로, 작업 대기열은 구독자 수 한도로 제한됩니다.
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(sendThreads, sendThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "task-change-send-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 기동이 끝나면 스트림 읽기를 시작합니다. (이 시점 이후의 변경부터 구독자에게 보냅니다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            reader.start();
+        }
+    }
+
+    /**
+     * 커밋된 변경을 스트림에 추가합니다. 한 트랜잭션의 변경은 파이프라인 한 번으로 보냅니다.
+     * 실패해도 쓰기 요청에는 영향을 주지 않으며, 그 변경은 구독자에게 전달되지 않습니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        List<Map<String, String>> entries = new ArrayList<>(event.getChanges().size());
+        try {
+            for (TaskChangedEvent.Change change : event.getChanges()) {
+                entries.add(toEntry(change));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("변경 이벤트를 직렬화하지 못했습니다.", e);
+            return;
+        }
+
+        XAddOptions options = XAddOptions.maxlen(streamMaxLen).approximateTrimming(true);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Map<String, String> entry : entries) {
+                        ops.opsForStream().add(StreamRecords.newRecord().in(STREAM_KEY).ofMap(entry), options);
+                    }
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("변경 이벤트를 스트림에 추가하지 못했습니다. count={}", entries.size(), e);
+        }
+    }
+
+    /**
+     * 변경 피드를 구독합니다.
+     * @param lastEventId 마지막으로 받은 이벤트 ID (Last-Event-ID). null이면 지금 이후의 변경만 받습니다.
+     * @return 응답으로 돌려줄 SSE 연결
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (!enabled) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "변경 피드가 꺼져 있습니다.");
+        }
+        if (!running) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "서버가 종료 중입니다.");
+        }
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "변경 피드 구독자 수가 한도를 넘었습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, lastEventId != null);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        if (lastEventId == null) {
+            // 첫 응답을 바로 보내 프록시/클라이언트가 연결이 열렸음을 알 수 있게 합니다.
+            subscriber.offer(SseEmitter.event().comment("connected").build(), null);
+        }
+        // 재전송 중에 들어오는 이벤트를 놓치지 않도록, 스트림을 읽기 전에 먼저 등록합니다.
+        subscribers.add(subscriber);
+
+        if (lastEventId != null) {
+            try {
+                replay(subscriber, lastEventId);
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(subscriber);
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * 대기 중인 연결이 프록시/로드밸런서의 유휴 시간 제한으로 끊기지 않도록 주기적으로 주석 한 줄을 보냅니다.
+     * 보낼 목록에 넣기만 하므로 느린 구독자가 있어도 스케줄러 스레드가 막히지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${task.changes.heartbeat-interval:20s}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("").build();
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, ping, null);
+        }
+    }
+
+    /**
+     * 종료 시 스트림 읽기를 멈추고 모든 연결을 닫습니다. 클라이언트는 Last-Event-ID로 다른 파드에 다시 연결합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        reader.interrupt();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+        subscribers.clear();
+        reader.join(pollTimeout.plusSeconds(1).toMillis());
+        sender.shutdown();
+        sender.awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    // --- Private Helper Methods ---
+
+    private Map<String, String> toEntry(TaskChangedEvent.Change change) throws JsonProcessingException {
+        String type;
+        TaskResponseDto task = null;
+        if (change.isDeleted()) {
+            type = TYPE_DELETED;
+        } else {
+            type = change.getBefore() == null ? TYPE_CREATED : TYPE_UPDATED;
+            task = new TaskResponseDto(change.getAfter(), null);
+        }
+        String data = objectMapper.writeValueAsString(new TaskChangeDto(type, change.getId(), task));
+        return Map.of("type", type, "id", String.valueOf(change.getId()), "data", data);
+    }
+
+    /**
+     * lastEventId 다음 항목부터 스트림에서 읽어 보낸 뒤, 그동안 모아 둔 실시간 이벤트를 이어서 보내고 실시간 전송으로 전환합니다.
+     */
+    private void replay(Subscriber subscriber, String lastEventId) throws IOException {
+        List<MapRecord<String, Object, Object>> records = null;
+        if (STREAM_ID.matcher(lastEventId).matches()) {
+            try {
+                records = readAfter(lastEventId);
+            } catch (DataAccessException e) {
+                log.warn("변경 피드 재전송 중 스트림을 읽지 못했습니다. lastEventId={}", lastEventId, e);
+            }
+        }
+
+        if (records == null) {
+            // 이어 보낼 수 없으면 reset 이후의 실시간 이벤트만 보냅니다.
+            subscriber.send(SseEmitter.event().name(TYPE_RESET).data("{}").build(), null);
+        } else {
+            for (MapRecord<String, Object, Object> record : records) {
+                String id = record.getId().getValue();
+                subscriber.send(toSseEvent(record), id);
+            }
+        }
+        subscriber.finishReplay();
+    }
+
+    /**
+     * lastEventId보다 뒤의 항목을 읽습니다.
+     * @return 이어 보낼 항목. lastEventId가 이미 스트림에서 지워졌거나 {@code max-replay}개를 넘으면 null
+     */
+    private List<MapRecord<String, Object, Object>> readAfter(String lastEventId) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(STREAM_KEY,
+                Range.rightUnbounded(Range.Bound.inclusive(lastEventId)), Limit.limit().count(maxReplay + 1));
+        if (records == null || records.isEmpty() || !records.get(0).getId().getValue().equals(lastEventId)) {
+            // 마지막으로 받은 항목이 스트림에 없으면 그 뒤의 일부가 잘려 나갔을 수 있습니다.
+            return null;
+        }
+        if (records.size() > maxReplay) {
+            return null;
+        }
+        return records.subList(1, records.size());
+    }
+
+    /**
+     * 스트림을 XREAD BLOCK으로 계속 읽습니다.
+     * 읽기 스레드는 Redis 연결 하나를 붙잡고 계속 씁니다. 템플릿으로 매번 읽으면 BLOCK 명령마다 전용 연결을 새로 열고 닫기 때문입니다.
+     * (연결 풀이 없으면 Lettuce는 블로킹 명령을 공유 연결에서 실행하지 않습니다)
+     * 읽기에 실패하면 그 연결을 닫고 잠시 뒤 새 연결로 다시 읽습니다.
+     */
+    @SuppressWarnings("unchecked")
+    private void readLoop() {
+        String lastId = null;
+        RedisConnection connection = null;
+        StreamReadOptions options = StreamReadOptions.empty().block(pollTimeout).count(READ_COUNT);
+        try {
+            while (running) {
+                try {
+                    if (connection == null) {
+                        connection = redisTemplate.getRequiredConnectionFactory().getConnection();
+                    }
+                    if (lastId == null) {
+                        lastId = latestId();
+                    }
+                    List<ByteRecord> records = connection.streamCommands().xRead(options,
+                            StreamOffset.create(STREAM_KEY_BYTES, ReadOffset.from(lastId)));
+                    if (records == null) {
+                        continue;
+                    }
+                    for (ByteRecord record : records) {
+                        lastId = record.getId().getValue();
+                        dispatch(record.deserialize(StringRedisSerializer.UTF_8, StringRedisSerializer.UTF_8,
+                                StringRedisSerializer.UTF_8));
+                    }
+                } catch (RuntimeException e) {
+                    if (!running) {
+                        break;
+                    }
+                    log.warn("변경 피드 스트림을 읽지 못했습니다. {} 후 다시 시도합니다.", READ_ERROR_BACKOFF, e);
+                    closeQuietly(connection);
+                    connection = null;
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(READ_ERROR_BACKOFF.toMillis());
+                    } catch (InterruptedException interrupted) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    private static void closeQuietly(RedisConnection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (RuntimeException e) {
+            log.debug("변경 피드 읽기 연결을 닫지 못했습니다.", e);
+        }
+    }
+
+    /**
+     * 스트림의 마지막 항목 ID입니다. 비어 있으면 처음부터 읽도록 0-0을 돌려줍니다.
+     */
+    private String latestId() {
+        List<MapRecord<String, Object, Object>> last = redisTemplate.opsForStream()
+                .reverseRange(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        return last == null || last.isEmpty() ? "0-0" : last.get(0).getId().getValue();
+    }
+
+    /**
+     * 스트림에서 읽은 항목 하나를 모든 구독자의 보낼 목록에 넣습니다. (테스트에서는 XREAD 없이 실시간 이벤트를 넣는 데 씁니다)
+     */
+    void dispatch(MapRecord<String, ?, ?> record) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String id = record.getId().getValue();
+        Set<DataWithMediaType> event = toSseEvent(record);
+        for (Subscriber subscriber : subscribers) {
+            deliver(subscriber, event, id);
+        }
+    }
+
+    private void deliver(Subscriber subscriber, Set<DataWithMediaType> event, String id) {
+        if (!subscriber.offer(event, id)) {
+            // 보낼 목록이 가득 찼습니다. 이 구독자를 기다리지 않고 끊으면 클라이언트가 Last-Event-ID로 이어 받습니다.
+            drop(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            dropped.increment();
+        }
+        subscriber.close();
+    }
+
+    private static Set<DataWithMediaType> toSseEvent(MapRecord<String, ?, ?> record) {
+        Map<?, ?> fields = record.getValue();
+        return SseEmitter.event()
+                .id(record.getId().getValue())
+                .name(String.valueOf(fields.get("type")))
+                .data(String.valueOf(fields.get("data")), MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    /**
+     * 스트림 ID(밀리초-순번)를 순서대로 비교합니다.
+     */
+    private static int compareIds(String left, String right) {
+        int leftDash = left.indexOf('-');
+        int rightDash = right.indexOf('-');
+        int result = Long.compare(Long.parseLong(left.substring(0, leftDash)), Long.parseLong(right.substring(0, rightDash)));
+        if (result != 0) {
+            return result;
+        }
+        return Long.compare(Long.parseLong(left.substring(leftDash + 1)), Long.parseLong(right.substring(rightDash + 1)));
+    }
+
+    /**
+     * 구독자 하나. 실시간 이벤트와 하트비트는 보낼 목록(outbox)에 넣고, 구독자마다 한 번에 하나의 전송 스레드만 목록을 비우며 보냅니다.
+     * 재전송은 요청 스레드에서 직접 보내고, 그동안의 실시간 이벤트는 pending에 모아 두었다가 재전송이 끝나면 보낼 목록으로 옮깁니다.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        // 보낼 이벤트 (this로 동기화)
+        private final ArrayDeque<PendingEvent> outbox = new ArrayDeque<>();
+        // 재전송 중에 도착한 실시간 이벤트. null이면 실시간 전송 중입니다.
+        private List<PendingEvent> pending;
+        // 재전송 중에 실시간 이벤트가 너무 많이 쌓여 일부를 버렸는지 여부
+        private boolean overflowed;
+        // 보낼 목록을 비우는 스레드가 있는지 여부
+        private boolean draining;
+        private boolean closed;
+        // 마지막으로 보낸 이벤트 ID (이보다 앞선 이벤트는 다시 보내지 않습니다). 재전송 스레드, 그 뒤에는 전송 스레드만 씁니다.
+        private String lastSentId;
+
+        private Subscriber(SseEmitter emitter, boolean replaying) {
+            this.emitter = emitter;
+            this.pending = replaying ? new ArrayList<>() : null;
+        }
+
+        /**
+         * 이벤트를 보낼 목록에 넣습니다. 소켓에 쓰지 않으므로 막히지 않습니다.
+         * @return 보낼 목록이 가득 차 넣지 못했으면 false
+         */
+        private boolean offer(Set<DataWithMediaType> event, String id) {
+            synchronized (this) {
+                if (closed) {
+                    return true;
+                }
+                if (pending != null) {
+                    if (id == null) {
+                        // 재전송 중에는 하트비트가 필요 없습니다.
+                        return true;
+                    }
+                    if (pending.size() >= maxReplay) {
+                        // 재전송이 끝나면 reset을 보내므로, 그 전에 쌓인 이벤트는 버려도 됩니다.
+                        pending.clear();
+                        overflowed = true;
+                    }
+                    pending.add(new PendingEvent(id, event));
+                    return true;
+                }
+                if (outbox.size() >= sendBuffer) {
+                    return false;
+                }
+                outbox.add(new PendingEvent(id, event));
+                if (draining) {
+                    return true;
+                }
+                draining = true;
+            }
+            startDrain();
+            return true;
+        }
+
+        private void finishReplay() {
+            synchronized (this) {
+                if (overflowed) {
+                    outbox.add(new PendingEvent(null, SseEmitter.event().name(TYPE_RESET).data("{}").build()));
+                }
+                outbox.addAll(pending);
+                pending = null;
+                if (draining || outbox.isEmpty()) {
+                    return;
+                }
+                draining = true;
+            }
+            startDrain();
+        }
+
+        private void startDrain() {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중입니다. 연결은 shutdown()에서 닫습니다.
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+
+        private void drain() {
+            for (int sent = 0; ; sent++) {
+                PendingEvent next;
+                synchronized (this) {
+                    if (closed) {
+                        // 전송 중에 close()가 호출되었습니다. 이제 막힌 쓰기가 없으므로 여기서 닫습니다.
+                        draining = false;
+                        break;
+                    }
+                    next = outbox.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                    if (sent == SEND_SLICE) {
+                        // 남은 이벤트는 다른 구독자 다음 차례에 보냅니다.
+                        outbox.addFirst(next);
+                        startDrain();
+                        return;
+                    }
+                }
+                try {
+                    send(next.event, next.id);
+                } catch (IOException | IllegalStateException e) {
+                    // 클라이언트가 연결을 끊었습니다. 오류 콜백에서도 제거되지만 다음 전송을 기다리지 않고 바로 뺍니다.
+                    drop(this);
+                    return;
+                }
+            }
+            emitter.complete();
+        }
+
+        private void send(Set<DataWithMediaType> event, String id) throws IOException {
+            if (id != null) {
+                if (lastSentId != null && compareIds(id, lastSentId) <= 0) {
+                    return;
+                }
+                lastSentId = id;
+            }
+            emitter.send(event);
+        }
+
+        /**
+         * 연결을 닫습니다. 전송 중이면 그 쓰기가 막혀 있을 수 있으므로 기다리지 않고, 전송 스레드가 쓰기를 마친 뒤 닫습니다.
+         */
+        private void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                outbox.clear();
+                if (draining) {
+                    return;
+                }
+            }
+            emitter.complete();
+        }
+    }
+
+    private static final class PendingEvent {
+        private final String id;
+        private final Set<DataWithMediaType> event;
+
+        private PendingEvent(String id, Set<DataWithMediaType> event) {
+            this.id = id;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.task.service;
+
+import com.example.task.entity.Task;
+
+import java.util.List;
+
+/**
+ * Task가 생성/수정/삭제되었음을 알리는 애플리케이션 이벤트입니다.
+ * <p>
+ * 쓰기 트랜잭션 안에서 발행하고, 받는 쪽은 {@code @TransactionalEventListener}로 커밋이 끝난 뒤에 처리합니다.
+ * (롤백된 변경은 전달되지 않습니다.) 일괄 처리에서는 한 트랜잭션의 변경을 하나의 이벤트로 묶습니다.
+ * </p>
+ */
+public class TaskChangedEvent {
+
+    private final List<Change> changes;
+
+    public TaskChangedEvent(List<Change> changes) {
+        this.changes = List.copyOf(changes);
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(List.of(Change.created(task)));
+    }
+
+    public static TaskChangedEvent updated(Task before, Task after) {
+        return new TaskChangedEvent(List.of(Change.updated(before, after)));
+    }
+
+    public static TaskChangedEvent deleted(Task task) {
+        return new TaskChangedEvent(List.of(Change.deleted(task)));
+    }
+
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    /**
+     * 현재 필드 값을 복사해 둡니다. 수정 전 상태(before)를 남길 때 사용합니다.
+     * @param task 복사할 Task
+     * @return 영속성 컨텍스트와 분리된 복사본
+     */
+    public static Task snapshot(Task task) {
+        Task copy = new Task();
+        copy.setId(task.getId());
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setStatus(task.getStatus());
+        copy.setPriority(task.getPriority());
+        copy.setAssignee(task.getAssignee());
+        copy.setCreatedAt(task.getCreatedAt());
+        copy.setUpdatedAt(task.getUpdatedAt());
+        copy.setVersion(task.getVersion());
+        return copy;
+    }
+
+    /**
+     * Task 한 건의 변경입니다. 생성이면 before가, 삭제면 after가 null입니다.
+     * after는 저장된 엔티티 자체이므로, 커밋 후에 읽으면 DB가 채운 값(ID, 생성/수정 시각)까지 들어 있습니다.
+     */
+    public static final class Change {
+        private final Task before;
+        private final Task after;
+
+        private Change(Task before, Task after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        public static Change created(Task task) {
+            return new Change(null, task);
+        }
+
+        public static Change updated(Task before, Task after) {
+            return new Change(before, after);
+        }
+
+        public static Change deleted(Task task) {
+            return new Change(task, null);
+        }
+
+        public Task getBefore() { return before; }
+        public Task getAfter() { return after; }
+
+        public Long getId() {
+            return after != null ? after.getId() : before.getId();
+        }
+
+        public boolean isDeleted() {
+            return after == null;
+        }
+    }
+}
@@ -0,0 +1,533 @@
+package com.example.task.service;
+
+import com.example.task.dto.TaskCreateStatusDto;
+import com.example.task.dto.TaskCreateStatusDto.Status;
+import com.example.task.dto.TaskRequestDto;
+import com.example.task.entity.Task;
+import com.example.task.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Task 생성 요청을 메모리 대기열에 접수하고, 쓰기 스레드가 여러 건을 묶어 한 번에 저장하는(group commit) 서비스입니다.
+ * <p>
+ * 접수는 추적 ID를 만들어 Redis에 PENDING 상태를 기록하고 대기열에 넣는 것까지만 하므로, 요청은 DB를 기다리지 않고 202로 끝납니다.
+ * 쓰기 스레드({@code task-create-writer})는 {@code max-delay}가 지나거나 {@code max-batch}개가 모이면
+ * 하나의 트랜잭션에서 {@code saveAll}로 저장합니다. (묶음의 ID는 시퀀스에서 한 번에 받고, JDBC 배치 + reWriteBatchedInserts로 여러 행 INSERT가 됩니다)
+ * 변경 이벤트({@link TaskChangedEvent})와 목록 캐시 무효화도 묶음마다 한 번씩만 수행하고,
+ * 결과(CREATED + Task ID, 또는 FAILED + 오류)는 파이프라인 한 번으로 Redis에 기록해 상태 조회 API로 확인할 수 있습니다.
+ * </p>
+ * <p>
+ * 대기열은 {@code capacity}로 제한합니다. {@code enqueue-timeout} 안에 자리가 나지 않으면
+ * {@link TaskCreateQueueFullException}(503 + Retry-After)으로 거절해, 쓰기가 밀릴 때 메모리 대신 클라이언트 쪽에서 기다리게 합니다.
+ * 묶음의 INSERT가 실패하면(커밋 전이므로 아무것도 저장되지 않았습니다) 문제 있는 항목만 FAILED가 되도록 한 건씩 다시 저장하고,
+ * DB에 연결할 수 없을 때는 실패로 돌리지 않고 잠시 뒤 같은 묶음을 다시 시도합니다. (그동안 대기열이 차면 접수가 거절됩니다)
+ * 커밋 도중 오류가 나면 실제로 저장되었는지 알 수 없으므로, 중복 저장하지 않도록 다시 시도하지 않고 UNKNOWN으로 기록합니다.
+ * </p>
+ * <p>
+ * 종료 시에는 새 접수를 멈추고 {@code shutdown-timeout} 동안 대기열을 비웁니다.
+ * 그 안에 저장하지 못한 요청은 Redis 목록({@code task:create:spill})으로 넘기고, 살아 있는 파드가 주기적으로 가져가 저장합니다.
+ * 이 처리는 웹 서버가 멈춘 뒤, Redis 연결(LettuceConnectionFactory)이 닫히기 전 단계({@link #getPhase()})에서 수행합니다.
+ * 프로세스가 강제로 종료되면(OOM, SIGKILL) 대기열의 요청은 사라지며, 상태는 PENDING으로 남았다가 {@code status-ttl} 뒤 없어집니다.
+ * </p>
+ * <p>
+ * 지표: {@code task.create.queue.size}(대기 중인 요청 수), {@code task.create.rejected}(대기열이 가득 차 거절한 수),
+ * {@code task.create.flush.size}(한 번에 저장한 요청 수), {@code task.create.flush}(묶음 저장 시간)
+ * </p>
+ */
+@Service
+public class TaskCreateQueue implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskCreateQueue.class);
+
+    // 추적 ID별 처리 상태 (값: PENDING, CREATED:<taskId>, FAILED:<message>)
+    private static final String STATUS_KEY_PREFIX = "task:create:";
+    // 종료 시 저장하지 못하고 넘긴 요청 목록 (항목: PendingCreate JSON)
+    private static final String SPILL_KEY = "task:create:spill";
+
+    private static final String PREFER_RESPOND_ASYNC = "respond-async";
+    private static final Duration IDLE_POLL = Duration.ofMillis(100);
+    private static final Duration DB_ERROR_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration FORCED_STOP_WAIT = Duration.ofSeconds(5);
+    // 웹 서버(DEFAULT_PHASE - 1024, - 2048)보다 늦게, Redis 연결(0)보다 먼저 멈춥니다.
+    private static final int LIFECYCLE_PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    /** 생성 요청을 대기열로 받을지 정하는 방식 */
+    public enum Mode {
+        /** 사용하지 않음 (모든 생성은 동기 저장 후 201) */
+        SYNC,
+        /** {@code Prefer: respond-async} 헤더를 보낸 요청만 */
+        PREFER,
+        /** 모든 생성 요청 */
+        ALWAYS
+    }
+
+    /** 대기열에 들어간 생성 요청 하나입니다. (유효성 검사를 마친 요청) */
+    record PendingCreate(String trackingId, TaskRequestDto request) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TaskRepository taskRepository;
+    private final TaskCache taskCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Mode mode;
+    private final int maxBatch;
+    private final Duration maxDelay;
+    private final Duration enqueueTimeout;
+    private final Duration retryAfter;
+    private final Duration statusTtl;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<PendingCreate> queue;
+    private final AtomicInteger enqueuing = new AtomicInteger();
+    private final Counter rejected;
+    private final DistributionSummary flushSize;
+    private final Timer flushTimer;
+    private final Thread writer;
+    private volatile boolean accepting = true;
+    private volatile boolean running = true;
+    private volatile boolean started;
+    // 쓰기 스레드가 멈출 때 저장하지 못하고 들고 있던 묶음 (종료 처리에서 넘깁니다)
+    private List<PendingCreate> unflushed = List.of();
+    // 종료 처리가 unflushed를 이미 가져갔는지 여부. 그 뒤에 멈춘 쓰기 스레드는 들고 있던 묶음을 직접 넘깁니다.
+    private boolean handedOff;
+    private final Object handoffLock = new Object();
+
+    public TaskCreateQueue(StringRedisTemplate redisTemplate,
+                           ObjectMapper objectMapper,
+                           TaskRepository taskRepository,
+                           TaskCache taskCache,
+                           PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry,
+                           @Value("${task.async-create.mode:sync}") String mode,
+                           @Value("${task.async-create.capacity:10000}") int capacity,
+                           @Value("${task.async-create.max-batch:500}") int maxBatch,
+                           @Value("${task.async-create.max-delay:5ms}") Duration maxDelay,
+                           @Value("${task.async-create.enqueue-timeout:50ms}") Duration enqueueTimeout,
+                           @Value("${task.async-create.retry-after:1s}") Duration retryAfter,
+                           @Value("${task.async-create.status-ttl:1h}") Duration statusTtl,
+                           @Value("${task.async-create.shutdown-timeout:20s}") Duration shutdownTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.taskRepository = taskRepository;
+        this.taskCache = taskCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.maxBatch = maxBatch;
+        this.maxDelay = maxDelay;
+        this.enqueueTimeout = enqueueTimeout;
+        this.retryAfter = retryAfter;
+        this.statusTtl = statusTtl;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.rejected = Counter.builder("task.create.rejected")
+                .description("비동기 생성 대기열이 가득 차 거절한 요청 수")
+                .register(meterRegistry);
+        this.flushSize = DistributionSummary.builder("task.create.flush.size")
+                .description("한 번에 묶어 저장한 생성 요청 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("task.create.flush")
+                .description("생성 요청 묶음을 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("task.create.queue.size", queue, BlockingQueue::size)
+                .description("저장을 기다리는 비동기 생성 요청 수")
+                .register(meterRegistry);
+        this.writer = new Thread(this::writeLoop, "task-create-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * 웹 서버가 요청을 받기 전에 쓰기 스레드를 시작합니다.
+     */
+    @Override
+    public void start() {
+        if (mode != Mode.SYNC && !started) {
+            writer.start();
+        }
+        started = true;
+    }
+
+    @Override
+    public void stop() {
+        try {
+            shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            started = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return started;
+    }
+
+    @Override
+    public int getPhase() {
+        return LIFECYCLE_PHASE;
+    }
+
+    /**
+     * 이 생성 요청을 대기열로 받을지 여부입니다.
+     * @param prefer 요청의 Prefer 헤더 (없으면 null)
+     */
+    public boolean shouldQueue(String prefer) {
+        return switch (mode) {
+            case SYNC -> false;
+            case PREFER -> prefer != null && prefer.toLowerCase(Locale.ROOT).contains(PREFER_RESPOND_ASYNC);
+            case ALWAYS -> true;
+        };
+    }
+
+    /**
+     * 생성 요청을 대기열에 접수합니다.
+     * @param request 유효성 검사를 마친 생성 요청
+     * @return 접수 상태(PENDING)와 추적 ID. 종료 중이거나 Redis에 상태를 기록하지 못하면 null (호출한 쪽에서 동기로 저장합니다)
+     * @throws TaskCreateQueueFullException {@code enqueue-timeout} 안에 대기열에 자리가 나지 않은 경우
+     */
+    public TaskCreateStatusDto enqueue(TaskRequestDto request) {
+        enqueuing.incrementAndGet();
+        try {
+            if (!accepting) {
+                return null;
+            }
+            String trackingId = UUID.randomUUID().toString();
+            // 쓰기 스레드가 결과를 먼저 기록할 수 있으므로, PENDING은 대기열에 넣기 전에 기록합니다.
+            try {
+                redisTemplate.opsForValue().set(statusKey(trackingId), Status.PENDING.name(), statusTtl);
+            } catch (DataAccessException e) {
+                log.warn("비동기 생성 상태를 기록하지 못해 동기로 저장합니다.", e);
+                return null;
+            }
+            if (!offer(new PendingCreate(trackingId, request))) {
+                rejected.increment();
+                deleteStatus(trackingId);
+                throw new TaskCreateQueueFullException(retryAfter);
+            }
+            return new TaskCreateStatusDto(trackingId, Status.PENDING, null, null);
+        } finally {
+            enqueuing.decrementAndGet();
+        }
+    }
+
+    /**
+     * 접수한 생성 요청의 처리 상태를 조회합니다.
+     * @param trackingId 접수 시 돌려준 추적 ID
+     * @throws EntityNotFoundException 추적 ID가 없거나 {@code status-ttl}이 지난 경우
+     */
+    public TaskCreateStatusDto getStatus(String trackingId) {
+        String value = redisTemplate.opsForValue().get(statusKey(trackingId));
+        if (value == null) {
+            throw new EntityNotFoundException("추적 ID가 " + trackingId + "인 생성 요청을 찾을 수 없습니다.");
+        }
+        int separator = value.indexOf(':');
+        Status status = Status.valueOf(separator < 0 ? value : value.substring(0, separator));
+        String detail = separator < 0 ? null : value.substring(separator + 1);
+        return switch (status) {
+            case PENDING -> new TaskCreateStatusDto(trackingId, status, null, null);
+            case CREATED -> new TaskCreateStatusDto(trackingId, status, Long.valueOf(detail), null);
+            case FAILED, UNKNOWN -> new TaskCreateStatusDto(trackingId, status, null, detail);
+        };
+    }
+
+    /**
+     * 종료하는 파드가 넘긴 요청을 가져와 대기열에 넣습니다. 대기열에 남은 자리만큼만 가져옵니다.
+     */
+    @Scheduled(fixedDelayString = "${task.async-create.recover-interval:5s}")
+    public void recoverSpilled() {
+        if (mode == Mode.SYNC || !accepting) {
+            return;
+        }
+        int room = Math.min(maxBatch, queue.remainingCapacity());
+        if (room <= 0) {
+            return;
+        }
+        List<String> spilled;
+        try {
+            spilled = redisTemplate.opsForList().leftPop(SPILL_KEY, room);
+        } catch (DataAccessException e) {
+            log.warn("종료한 파드가 넘긴 생성 요청을 가져오지 못했습니다.", e);
+            return;
+        }
+        if (spilled == null || spilled.isEmpty()) {
+            return;
+        }
+        List<String> returned = new ArrayList<>();
+        for (String json : spilled) {
+            try {
+                if (!queue.offer(objectMapper.readValue(json, PendingCreate.class))) {
+                    returned.add(json);
+                }
+            } catch (JsonProcessingException e) {
+                log.error("넘겨받은 생성 요청을 읽지 못해 버립니다. value={}", json, e);
+            }
+        }
+        if (!returned.isEmpty()) {
+            redisTemplate.opsForList().rightPushAll(SPILL_KEY, returned);
+        }
+        log.info("종료한 파드가 넘긴 생성 요청 {}건을 가져왔습니다.", spilled.size() - returned.size());
+    }
+
+    // --- Private Helper Methods ---
+
+    /**
+     * 종료 시 새 접수를 멈추고, {@code shutdown-timeout} 동안 대기열을 저장한 뒤 남은 요청을 Redis 목록으로 넘깁니다.
+     */
+    private void shutdown() throws InterruptedException {
+        accepting = false;
+        // 이미 접수를 시작한 요청이 대기열에 넣기를 마칠 때까지 기다립니다.
+        long deadline = System.nanoTime() + enqueueTimeout.plusSeconds(1).toNanos();
+        while (enqueuing.get() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        // 대기열이 비면 쓰기 스레드가 스스로 끝납니다.
+        if (shutdownTimeout.toMillis() > 0) {
+            writer.join(shutdownTimeout.toMillis());
+        }
+        running = false;
+        // 저장 중인 묶음은 끝까지 기다리지 않습니다. 그 묶음을 저장하지 못하면 쓰기 스레드가 멈출 때 직접 넘깁니다.
+        writer.join(FORCED_STOP_WAIT.toMillis());
+
+        List<PendingCreate> remaining;
+        synchronized (handoffLock) {
+            remaining = new ArrayList<>(unflushed);
+            handedOff = true;
+        }
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+    }
+
+    private boolean offer(PendingCreate pending) {
+        try {
+            return queue.offer(pending, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                if (batch.isEmpty() && !fill(batch)) {
+                    if (!accepting && queue.isEmpty()) {
+                        break;
+                    }
+                    continue;
+                }
+                if (flush(batch)) {
+                    batch.clear();
+                } else {
+                    TimeUnit.MILLISECONDS.sleep(DB_ERROR_BACKOFF.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                // 결과 기록 등 예상하지 못한 오류로 쓰기 스레드가 멈추지 않도록 합니다. (이 묶음의 상태는 PENDING으로 남습니다)
+                log.error("비동기 생성 묶음을 처리하지 못했습니다. count={}", batch.size(), e);
+                batch.clear();
+            }
+        }
+        synchronized (handoffLock) {
+            if (!handedOff) {
+                unflushed = List.copyOf(batch);
+                return;
+            }
+        }
+        // 종료 처리가 기다리다 먼저 끝난 뒤 이 묶음의 저장이 실패한 경우입니다.
+        if (!batch.isEmpty()) {
+            spill(batch);
+        }
+    }
+
+    /**
+     * 첫 요청을 기다린 뒤, {@code max-delay}가 지나거나 {@code max-batch}개가 될 때까지 모읍니다.
+     * @return 하나라도 모았으면 true
+     */
+    private boolean fill(List<PendingCreate> batch) throws InterruptedException {
+        PendingCreate first = queue.poll(IDLE_POLL.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < maxBatch) {
+            queue.drainTo(batch, maxBatch - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatch || remaining <= 0) {
+                break;
+            }
+            PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    /**
+     * 묶음을 하나의 트랜잭션으로 저장하고 결과를 기록합니다.
+     * INSERT는 트랜잭션 안에서 flush하므로, 그 단계의 오류는 커밋 전(롤백됨)이고 커밋 단계의 오류와 구분할 수 있습니다.
+     * @return DB에 연결할 수 없어 아무것도 처리하지 못했으면 false (같은 묶음을 다시 시도합니다)
+     */
+    boolean flush(List<PendingCreate> batch) {
+        long startedAt = System.nanoTime();
+        Map<String, String> results = new LinkedHashMap<>();
+        Set<String> staleKeys = new LinkedHashSet<>();
+        AtomicBoolean written = new AtomicBoolean();
+        try {
+            List<Task> tasks = batch.stream().map(pending -> TaskBatchService.newTaskFromDto(pending.request())).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                taskRepository.assignIds(tasks);
+                List<Task> saved = taskRepository.saveAllAndFlush(tasks);
+                eventPublisher.publishEvent(new TaskChangedEvent(saved.stream().map(TaskChangedEvent.Change::created).toList()));
+                written.set(true);
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                results.put(batch.get(i).trackingId(), Status.CREATED.name() + ":" + tasks.get(i).getId());
+                staleKeys.addAll(taskCache.headWindowKeys(tasks.get(i)));
+            }
+        } catch (CannotCreateTransactionException e) {
+            log.warn("DB에 연결하지 못해 생성 요청 {}건을 {} 후 다시 저장합니다.", batch.size(), DB_ERROR_BACKOFF, e);
+            return false;
+        } catch (DataAccessException | TransactionException e) {
+            if (written.get()) {
+                // 커밋 도중의 오류: 저장되었을 수도 있으므로 다시 저장하지 않습니다.
+                log.error("생성 요청 {}건의 커밋 결과를 알 수 없습니다.", batch.size(), e);
+                for (PendingCreate pending : batch) {
+                    results.put(pending.trackingId(), unknownResult(e));
+                }
+            } else {
+                // 한 건의 오류(예: 제약 조건 위반)로 묶음 전체가 롤백되었으므로, 한 건씩 다시 저장해 그 항목만 실패로 처리합니다.
+                for (PendingCreate pending : batch) {
+                    saveOne(pending, results, staleKeys);
+                }
+            }
+        }
+        taskCache.evictHeadWindows(staleKeys);
+        writeResults(results);
+        flushSize.record(batch.size());
+        flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return true;
+    }
+
+    private void saveOne(PendingCreate pending, Map<String, String> results, Set<String> staleKeys) {
+        // 롤백된 묶음의 엔티티에는 ID가 채워져 있을 수 있으므로 새로 만듭니다.
+        Task task = TaskBatchService.newTaskFromDto(pending.request());
+        AtomicBoolean written = new AtomicBoolean();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Task saved = taskRepository.saveAndFlush(task);
+                eventPublisher.publishEvent(TaskChangedEvent.created(saved));
+                written.set(true);
+            });
+            results.put(pending.trackingId(), Status.CREATED.name() + ":" + task.getId());
+            staleKeys.addAll(taskCache.headWindowKeys(task));
+        } catch (DataAccessException | TransactionException e) {
+            results.put(pending.trackingId(), written.get()
+                    ? unknownResult(e)
+                    : Status.FAILED.name() + ":" + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        }
+    }
+
+    private static String unknownResult(Exception e) {
+        return Status.UNKNOWN.name() + ":커밋 중 오류가 나 저장 여부를 알 수 없습니다. ("
+                + NestedExceptionUtils.getMostSpecificCause(e).getMessage() + ")";
+    }
+
+    private void writeResults(Map<String, String> results) {
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    results.forEach((trackingId, value) -> ops.opsForValue().set(statusKey(trackingId), value, statusTtl));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            // 저장은 끝났으므로 되돌리지 않습니다. 상태는 PENDING으로 남았다가 status-ttl 뒤 없어집니다.
+            log.warn("비동기 생성 결과를 기록하지 못했습니다. count={}", results.size(), e);
+        }
+    }
+
+    private void spill(List<PendingCreate> remaining) {
+        List<String> values = new ArrayList<>(remaining.size());
+        for (PendingCreate pending : remaining) {
+            try {
+                values.add(objectMapper.writeValueAsString(pending));
+            } catch (JsonProcessingException e) {
+                log.error("생성 요청을 넘기지 못했습니다. trackingId={}", pending.trackingId(), e);
+            }
+        }
+        if (values.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForList().rightPushAll(SPILL_KEY, values);
+            log.info("저장하지 못한 생성 요청 {}건을 다른 파드로 넘겼습니다.", values.size());
+        } catch (DataAccessException e) {
+            log.error("저장하지 못한 생성 요청 {}건을 넘기지 못해 잃었습니다.", values.size(), e);
+        }
+    }
+
+    private void deleteStatus(String trackingId) {
+        try {
+            redisTemplate.delete(statusKey(trackingId));
+        } catch (DataAccessException e) {
+            // 남은 PENDING은 status-ttl 뒤 없어집니다.
+            log.debug("거절한 생성 요청의 상태를 지우지 못했습니다. trackingId={}", trackingId, e);
+        }
+    }
+
+    private static String statusKey(String trackingId) {
+        return STATUS_KEY_PREFIX + trackingId;
+    }
+}
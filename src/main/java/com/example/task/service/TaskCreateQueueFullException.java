@@ -0,0 +1,21 @@
+package com.example.task.service;
+
+import java.time.Duration;
+
+/**
+ * 비동기 생성 대기열이 가득 차 요청을 접수하지 못했을 때 던지는 예외입니다.
+ * 클라이언트는 retryAfter 뒤에 다시 시도하면 됩니다.
+ */
+public class TaskCreateQueueFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TaskCreateQueueFullException(Duration retryAfter) {
+        super("생성 요청이 많아 접수하지 못했습니다. 잠시 후 다시 시도하세요.");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.task.service;
+
+import com.example.task.dto.TaskResponseDto;
+import com.example.task.entity.Task;
+import com.example.task.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 모든 Task를 NDJSON(한 줄에 Task 하나)으로 내보내는 서비스입니다.
+ * <p>
+ * 전체 목록을 메모리에 만들지 않고, id 키셋으로 {@code chunk-size}건씩 읽어 응답 스트림에 씁니다.
+ * 묶음마다 짧은 읽기 전용 트랜잭션으로 읽으므로, 느린 클라이언트에게 쓰는 동안에는 DB 커넥션을 잡고 있지 않습니다.
+ * (따라서 전체가 하나의 스냅숏은 아니며, 내보내는 도중 추가/수정된 Task는 위치에 따라 반영되거나 빠질 수 있습니다)
+ * 읽은 엔티티는 바로 영속성 컨텍스트에서 분리(detach)하므로 행 수가 늘어도 힙 사용량이 일정합니다.
+ * 조회수는 묶음마다 MGET 한 번으로 가져옵니다.
+ * </p>
+ */
+@Service
+public class TaskExportService {
+
+    private final TaskRepository taskRepository;
+    private final ViewCounter viewCounter;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readTransaction;
+    private final int chunkSize;
+
+    public TaskExportService(TaskRepository taskRepository,
+                             ViewCounter viewCounter,
+                             ObjectMapper objectMapper,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${task.export.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.viewCounter = viewCounter;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 모든 Task를 id 순서대로 NDJSON으로 씁니다.
+     * @param out 응답 출력 스트림 (이 메서드는 스트림을 닫지 않습니다)
+     * @return 내보낸 Task 수
+     */
+    public long exportTasks(OutputStream out) throws IOException {
+        long exported = 0;
+        long afterId = 0;
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (true) {
+                long from = afterId;
+                List<Task> chunk = readTransaction.execute(status -> readChunk(from));
+                if (chunk == null || chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1).getId();
+                exported += writeChunk(generator, chunk);
+            }
+        }
+        return exported;
+    }
+
+    private List<Task> readChunk(long afterId) {
+        List<Task> chunk = new ArrayList<>(taskRepository.findExportPage(afterId, Limit.of(chunkSize)));
+        for (Task task : chunk) {
+            entityManager.detach(task);
+        }
+        return chunk;
+    }
+
+    private int writeChunk(JsonGenerator generator, List<Task> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (Task task : chunk) {
+            ids.add(task.getId());
+        }
+        Map<Long, Long> viewCounts = viewCounter.getCounts(ids);
+        for (Task task : chunk) {
+            generator.writeObject(new TaskResponseDto(task, viewCounts.getOrDefault(task.getId(), 0L)));
+            generator.writeRaw('\n');
+        }
+        // 묶음마다 내보내서 클라이언트가 바로 받기 시작하고, 버퍼가 커지지 않게 합니다.
+        generator.flush();
+        return chunk.size();
+    }
+}
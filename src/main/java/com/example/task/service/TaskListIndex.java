@@ -0,0 +1,393 @@
+package com.example.task.service;
+
+import com.example.task.cache.CacheValueCodec;
+import com.example.task.entity.Task;
+import com.example.task.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 필터 없는 Task 목록(GET /api/tasks)을 Redis에 항목 단위로 보관하고, 쓰기마다 변경분만 반영하는 인덱스입니다.
+ * <p>
+ * 목록 전체를 하나의 캐시 값으로 두면 Task 하나가 바뀔 때마다 통째로 버리고 다시 읽어야 하므로,
+ * 가장 최근 {@code window}개의 Task를 아래 구조로 나누어 저장합니다.
+ * </p>
+ * <ul>
+ *     <li>{@code {task:list}:index} (ZSET) - Task ID (score = ID, 목록 정렬 순서)</li>
+ *     <li>{@code {task:list}:data} (HASH) - Task ID -> 인코딩된 Task ({@link CacheValueCodec})</li>
+ *     <li>{@code {task:list}:meta} (HASH) - floor: 이 ID 이상인 Task는 모두 인덱스에 있음 (0이면 전체)</li>
+ *     <li>{@code {task:list}:etag} (HASH) - n: 목록이 바뀔 때마다 1씩 증가하는 버전, epoch: 카운터가 처음 만들어질 때 정한 임의 값
+ *     (인덱스와 별개로 유지)</li>
+ * </ul>
+ * <p>
+ * Task가 생성/수정/삭제되면 커밋 후에 해당 ID 하나만 추가/교체/삭제하는 Lua 스크립트를 실행합니다. (O(log N))
+ * 여러 파드의 변경이 뒤바뀐 순서로 도착해도 더 오래된 수정(@Version 기준)이나 삭제된 Task의 수정은 반영하지 않습니다.
+ * (version은 DB가 행마다 하나씩 올리므로 파드마다 다를 수 있는 시계와 상관없이 순서가 정해집니다)
+ * 인덱스가 없으면 (처음 시작, Redis 재시작, {@code max-age} 만료) 목록을 읽는 파드 하나가 최근 {@code window}개를
+ * DB에서 한 번 읽어 다시 만들며, 만드는 동안 들어온 변경은 따로 모아 두었다가 만든 직후에 다시 적용합니다.
+ * </p>
+ */
+@Component
+public class TaskListIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskListIndex.class);
+
+    /** 목록 버전 키 (n: Task가 생성/수정/삭제될 때마다 증가, epoch: 카운터가 새로 시작될 때마다 바뀌는 임의 값) */
+    public static final String VERSION_KEY = "{task:list}:etag";
+
+    private static final String INDEX_KEY = "{task:list}:index";
+    private static final String DATA_KEY = "{task:list}:data";
+    private static final String META_KEY = "{task:list}:meta";
+    // Task ID -> 마지막으로 반영한 version, 삭제된 Task는 'deleted'
+    private static final String STAMPS_KEY = "{task:list}:versions";
+    // 'deleted' 표시를 정리하기 위해 삭제된 Task ID를 모아두는 ZSET
+    private static final String TOMBSTONES_KEY = "{task:list}:tombstones";
+    // 인덱스를 다시 만드는 중임을 나타내는 임대 키와, 그동안 들어온 변경 목록
+    private static final String BUILDING_KEY = "{task:list}:building";
+    private static final String PENDING_KEY = "{task:list}:pending";
+
+    private static final byte[][] WRITE_KEYS = toBytes(INDEX_KEY, DATA_KEY, META_KEY, STAMPS_KEY, TOMBSTONES_KEY,
+            VERSION_KEY, BUILDING_KEY, PENDING_KEY);
+
+    private static final String UPSERT = "u";
+    private static final String REMOVE = "d";
+
+    // 추가/교체, 삭제를 처리하는 공통 함수 (KEYS 순서는 WRITE_KEYS)
+    private static final String APPLY_FUNCTIONS = """
+            local function upsert(id, stamp, value, window)
+              local floor = redis.call('hget', KEYS[3], 'floor')
+              if tonumber(id) < tonumber(floor) then return 0 end
+              local current = redis.call('hget', KEYS[4], id)
+              if current == 'deleted' or (current and tonumber(current) > tonumber(stamp)) then return 0 end
+              redis.call('hset', KEYS[4], id, stamp)
+              redis.call('hset', KEYS[2], id, value)
+              redis.call('zadd', KEYS[1], id, id)
+              local excess = redis.call('zcard', KEYS[1]) - tonumber(window)
+              if excess > 0 then
+                local removed = redis.call('zrange', KEYS[1], 0, excess - 1)
+                redis.call('zremrangebyrank', KEYS[1], 0, excess - 1)
+                redis.call('hdel', KEYS[2], unpack(removed))
+                redis.call('hdel', KEYS[4], unpack(removed))
+                local lowest = redis.call('zrange', KEYS[1], 0, 0)[1]
+                redis.call('hset', KEYS[3], 'floor', lowest)
+                local dead = redis.call('zrangebyscore', KEYS[5], '-inf', '(' .. lowest)
+                if #dead > 0 then
+                  redis.call('hdel', KEYS[4], unpack(dead))
+                  redis.call('zremrangebyscore', KEYS[5], '-inf', '(' .. lowest)
+                end
+              end
+              return 1
+            end
+            local function remove(id)
+              local floor = redis.call('hget', KEYS[3], 'floor')
+              if tonumber(id) < tonumber(floor) then return 0 end
+              redis.call('zrem', KEYS[1], id)
+              redis.call('hdel', KEYS[2], id)
+              redis.call('hset', KEYS[4], id, 'deleted')
+              redis.call('zadd', KEYS[5], id, id)
+              return 1
+            end
+            """;
+
+    // ARGV: 연산(u/d), id, stamp, value, window
+    private static final byte[] WRITE_SCRIPT = (APPLY_FUNCTIONS + """
+            redis.call('hincrby', KEYS[6], 'n', 1)
+            if redis.call('exists', KEYS[3]) == 0 then
+              if redis.call('exists', KEYS[7]) == 1 then
+                redis.call('rpush', KEYS[8], ARGV[1], ARGV[2], ARGV[3], ARGV[4])
+              end
+              return 0
+            end
+            if ARGV[1] == 'u' then return upsert(ARGV[2], ARGV[3], ARGV[4], ARGV[5]) end
+            return remove(ARGV[2])
+            """).getBytes(StandardCharsets.UTF_8);
+
+    // ARGV: 임대 토큰, 임대 시간(ms)
+    private static final byte[] BEGIN_REBUILD_SCRIPT = """
+            if redis.call('set', KEYS[7], ARGV[1], 'NX', 'PX', ARGV[2]) then
+              redis.call('del', KEYS[8])
+              return 1
+            end
+            return 0
+            """.getBytes(StandardCharsets.UTF_8);
+
+    // ARGV: 임대 토큰, floor, max-age(ms), window, 이후 (id, stamp, value) 반복
+    private static final byte[] REBUILD_SCRIPT = (APPLY_FUNCTIONS + """
+            if redis.call('get', KEYS[7]) ~= ARGV[1] then return 0 end
+            redis.call('del', KEYS[1], KEYS[2], KEYS[4], KEYS[5])
+            for i = 5, #ARGV, 3 do
+              redis.call('zadd', KEYS[1], ARGV[i], ARGV[i])
+              redis.call('hset', KEYS[4], ARGV[i], ARGV[i + 1])
+              redis.call('hset', KEYS[2], ARGV[i], ARGV[i + 2])
+            end
+            redis.call('hset', KEYS[3], 'floor', ARGV[2])
+            local pending = redis.call('lrange', KEYS[8], 0, -1)
+            for i = 1, #pending, 4 do
+              if pending[i] == 'u' then upsert(pending[i + 1], pending[i + 2], pending[i + 3], ARGV[4])
+              else remove(pending[i + 1]) end
+            end
+            redis.call('del', KEYS[7], KEYS[8])
+            redis.call('pexpire', KEYS[3], ARGV[3])
+            return 1
+            """).getBytes(StandardCharsets.UTF_8);
+
+    // KEYS: index, data, meta / ARGV: 최대 score(ZREVRANGEBYSCORE 형식), 개수
+    // 응답: 인덱스가 없으면 빈 목록, 있으면 floor 다음에 ID 내림차순으로 인코딩된 Task
+    private static final byte[] READ_SCRIPT = """
+            local floor = redis.call('hget', KEYS[3], 'floor')
+            if not floor then return {} end
+            local result = {floor}
+            local ids = redis.call('zrevrangebyscore', KEYS[1], ARGV[1], '-inf', 'LIMIT', 0, tonumber(ARGV[2]))
+            if #ids > 0 then
+              local values = redis.call('hmget', KEYS[2], unpack(ids))
+              for i = 1, #ids do result[#result + 1] = values[i] or '' end
+            end
+            return result
+            """.getBytes(StandardCharsets.UTF_8);
+
+    // KEYS: 목록 버전 / ARGV: epoch가 없을 때 쓸 새 값
+    // 응답: "epoch-n". 카운터가 Redis에서 사라졌다가(재시작, 메모리 제거) 다시 시작되면 epoch가 새로 정해지므로,
+    // 같은 n이 다시 나와도 이전 버전과 구분됩니다.
+    private static final byte[] VERSION_TAG_SCRIPT = """
+            local epoch = redis.call('hget', KEYS[1], 'epoch')
+            if not epoch then
+              redis.call('hsetnx', KEYS[1], 'epoch', ARGV[1])
+              epoch = redis.call('hget', KEYS[1], 'epoch')
+            end
+            return epoch .. '-' .. (redis.call('hget', KEYS[1], 'n') or '0')
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TaskRepository taskRepository;
+    private final CacheValueCodec codec;
+    private final boolean enabled;
+    private final int window;
+    private final Duration maxAge;
+    private final Duration rebuildTimeout;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter rebuilds;
+
+    public TaskListIndex(StringRedisTemplate redisTemplate,
+                         TaskRepository taskRepository,
+                         CacheValueCodec codec,
+                         MeterRegistry meterRegistry,
+                         @Value("${task.list-index.enabled:true}") boolean enabled,
+                         @Value("${task.list-index.window:1000}") int window,
+                         @Value("${task.list-index.max-age:10m}") Duration maxAge,
+                         @Value("${task.list-index.rebuild-timeout:30s}") Duration rebuildTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.taskRepository = taskRepository;
+        this.codec = codec;
+        this.enabled = enabled;
+        this.window = window;
+        this.maxAge = maxAge;
+        this.rebuildTimeout = rebuildTimeout;
+        this.hits = Counter.builder("task.list.index.reads").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("task.list.index.reads").tag("result", "miss")
+                .description("인덱스가 없거나 범위를 벗어나 DB에서 읽은 목록 조회 수")
+                .register(meterRegistry);
+        this.rebuilds = Counter.builder("task.list.index.rebuilds").register(meterRegistry);
+    }
+
+    /**
+     * 필터 없는 목록에서 cursor보다 작은 ID를 최신순으로 limit개까지 가져옵니다.
+     * @param cursor 이 ID보다 작은 Task부터 (첫 페이지면 null)
+     * @param limit  가져올 최대 개수
+     * @return Task 목록, 인덱스로 응답할 수 없으면 (인덱스가 없거나 범위 밖) null
+     */
+    public List<Task> findPage(Long cursor, int limit) {
+        if (!enabled) {
+            return null;
+        }
+        List<byte[]> reply;
+        try {
+            reply = read(cursor, limit);
+        } catch (DataAccessException e) {
+            log.warn("목록 인덱스를 읽지 못했습니다. DB에서 조회합니다.", e);
+            misses.increment();
+            return null;
+        }
+        if (reply == null || reply.isEmpty()) {
+            misses.increment();
+            return rebuild(cursor, limit);
+        }
+
+        long floor = Long.parseLong(new String(reply.get(0), StandardCharsets.UTF_8));
+        List<Task> tasks = new ArrayList<>(reply.size() - 1);
+        for (byte[] value : reply.subList(1, reply.size())) {
+            Object decoded = value.length == 0 ? null : codec.decode(value);
+            if (!(decoded instanceof Task task)) {
+                // 값이 없어졌거나(메모리 제거) 형식이 바뀌었으면 인덱스를 버리고 다시 만듭니다.
+                invalidate();
+                misses.increment();
+                return null;
+            }
+            tasks.add(task);
+        }
+        if (tasks.size() < limit && floor > 0) {
+            // floor보다 오래된 Task는 인덱스에 없으므로 이 페이지는 DB에서 읽어야 합니다.
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return tasks;
+    }
+
+    /**
+     * 목록 버전을 "epoch-n" 형식으로 가져옵니다. n은 Task가 생성/수정/삭제될 때마다 커밋 후 1씩 증가하며, 모든 파드가 같은 값을 봅니다.
+     * epoch는 카운터가 처음 만들어질 때(HSETNX) 정해지므로, Redis가 비워져 n이 처음부터 다시 세어져도 이전에 내준 값과 겹치지 않습니다.
+     */
+    public String getVersionTag() {
+        String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        byte[] tag = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.scriptingCommands()
+                .eval(VERSION_TAG_SCRIPT, ReturnType.VALUE, 1, bytes(VERSION_KEY), bytes(epoch)));
+        return new String(tag, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 커밋된 변경을 인덱스에 반영합니다. 롤백된 트랜잭션의 변경은 전달되지 않습니다.
+     * 반영에 실패해도 이미 커밋된 요청을 실패시키지 않고, 인덱스를 버려 다음 조회에서 다시 만들게 합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        try {
+            if (!enabled) {
+                redisTemplate.opsForHash().increment(VERSION_KEY, "n", 1);
+                return;
+            }
+            List<TaskChangedEvent.Change> changes = event.getChanges();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (TaskChangedEvent.Change change : changes) {
+                    apply(connection, change);
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("목록 인덱스에 변경을 반영하지 못했습니다. 인덱스를 다시 만듭니다.", e);
+            invalidate();
+        }
+    }
+
+    private void apply(RedisConnection connection, TaskChangedEvent.Change change) {
+        byte[][] args = change.isDeleted()
+                ? toBytes(REMOVE, String.valueOf(change.getId()), "", "", String.valueOf(window))
+                : new byte[][]{bytes(UPSERT), bytes(String.valueOf(change.getId())), bytes(stamp(change.getAfter())),
+                        codec.encode(change.getAfter()), bytes(String.valueOf(window))};
+        connection.scriptingCommands().eval(WRITE_SCRIPT, ReturnType.INTEGER, WRITE_KEYS.length, concat(WRITE_KEYS, args));
+    }
+
+    /**
+     * 최근 window개의 Task를 DB에서 읽어 인덱스를 다시 만들고, 읽은 결과로 이번 요청에 응답합니다.
+     * 다른 요청이나 다른 파드가 이미 만들고 있으면 기다리지 않고 null을 돌려줍니다. (호출한 쪽이 DB에서 직접 조회)
+     */
+    private List<Task> rebuild(Long cursor, int limit) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            String token = UUID.randomUUID().toString();
+            Long began = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                    .eval(BEGIN_REBUILD_SCRIPT, ReturnType.INTEGER, WRITE_KEYS.length,
+                            concat(WRITE_KEYS, toBytes(token, String.valueOf(rebuildTimeout.toMillis())))));
+            if (began == null || began == 0L) {
+                return null;
+            }
+
+            List<Task> newest = taskRepository.findPage(null, null, null, null, window + 1);
+            List<Task> rows = newest.size() > window ? newest.subList(0, window) : newest;
+            long floor = newest.size() > window ? rows.get(rows.size() - 1).getId() : 0L;
+
+            List<byte[]> args = new ArrayList<>(4 + rows.size() * 3);
+            args.add(bytes(token));
+            args.add(bytes(String.valueOf(floor)));
+            args.add(bytes(String.valueOf(maxAge.toMillis())));
+            args.add(bytes(String.valueOf(window)));
+            for (Task task : rows) {
+                args.add(bytes(String.valueOf(task.getId())));
+                args.add(bytes(stamp(task)));
+                args.add(codec.encode(task));
+            }
+            redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                    .eval(REBUILD_SCRIPT, ReturnType.INTEGER, WRITE_KEYS.length,
+                            concat(WRITE_KEYS, args.toArray(new byte[0][]))));
+            rebuilds.increment();
+
+            List<Task> page = new ArrayList<>(limit);
+            for (Task task : rows) {
+                if (page.size() == limit) {
+                    break;
+                }
+                if (cursor == null || task.getId() < cursor) {
+                    page.add(task);
+                }
+            }
+            return page.size() < limit && floor > 0 ? null : page;
+        } catch (DataAccessException e) {
+            log.warn("목록 인덱스를 다시 만들지 못했습니다.", e);
+            return null;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<byte[]> read(Long cursor, int limit) {
+        String max = cursor == null ? "+inf" : "(" + cursor;
+        return redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> (List<byte[]>) (List<?>) connection
+                .scriptingCommands().eval(READ_SCRIPT, ReturnType.MULTI, 3,
+                        toBytes(INDEX_KEY, DATA_KEY, META_KEY, max, String.valueOf(limit))));
+    }
+
+    private void invalidate() {
+        try {
+            redisTemplate.delete(META_KEY);
+        } catch (DataAccessException e) {
+            log.warn("목록 인덱스를 무효화하지 못했습니다. max-age가 지나면 다시 만들어집니다.", e);
+        }
+    }
+
+    /** 같은 Task의 변경 순서를 가리는 값 (@Version) */
+    private static String stamp(Task task) {
+        return String.valueOf(task.getVersion() == null ? 0L : task.getVersion());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] toBytes(String... values) {
+        byte[][] result = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = bytes(values[i]);
+        }
+        return result;
+    }
+
+    private static byte[][] concat(byte[][] keys, byte[][] args) {
+        byte[][] result = new byte[keys.length + args.length][];
+        System.arraycopy(keys, 0, result, 0, keys.length);
+        System.arraycopy(args, 0, result, keys.length, args.length);
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.task.service;
+
+import com.example.task.dto.TaskResponseDto;
+import com.example.task.dto.TaskSearchResponseDto;
+import com.example.task.entity.Task;
+import com.example.task.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task 제목/설명 전문 검색을 처리하는 서비스입니다.
+ * <p>
+ * PostgreSQL의 tsvector 생성 컬럼과 GIN 인덱스를 사용하므로 테이블 크기에 비례해 읽지 않습니다.
+ * 관련도는 일치하는 Task 전체에 대해 계산하고, 일치하는 수가 너무 많아 제한 시간(2초)을 넘으면
+ * 최신 {@code max-candidates}건만으로 다시 계산해 응답의 truncated를 true로 표시합니다.
+ * 깊은 OFFSET은 앞쪽 행을 모두 정렬해야 하므로 {@code max-candidates}건보다 깊은 페이지는 400으로 거절합니다.
+ * 실행 시간은 {@code task.search} 타이머로 기록됩니다.
+ * </p>
+ */
+@Service
+public class TaskSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchService.class);
+
+    private final TaskRepository taskRepository;
+    private final ViewCounter viewCounter;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int maxCandidates;
+
+    public TaskSearchService(TaskRepository taskRepository,
+                             ViewCounter viewCounter,
+                             @Value("${task.page.default-size:20}") int defaultPageSize,
+                             @Value("${task.page.max-size:100}") int maxPageSize,
+                             @Value("${task.search.max-candidates:1000}") int maxCandidates) {
+        this.taskRepository = taskRepository;
+        this.viewCounter = viewCounter;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * 검색어와 일치하는 Task를 관련도 순으로 한 페이지 조회합니다.
+     *
+     * @param query 검색어 (비어 있으면 안 됩니다)
+     * @param page  0부터 시작하는 페이지 번호 (없으면 0)
+     * @param size  페이지 크기 (없으면 기본값, 최대 페이지 크기를 넘으면 최대값으로 제한)
+     * @return 한 페이지 분량의 검색 결과 (조회수 포함)
+     * @throws ResponseStatusException 페이지가 {@code max-candidates}건보다 깊은 경우 (400)
+     */
+    @Timed(value = "task.search", histogram = true)
+    public TaskSearchResponseDto search(String query, Integer page, Integer size) {
+        int pageSize = size == null ? Math.min(defaultPageSize, maxPageSize) : Math.max(1, Math.min(size, maxPageSize));
+        int pageNumber = page == null ? 0 : Math.max(0, page);
+        long offset = (long) pageNumber * pageSize;
+        if (offset >= maxCandidates) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "검색 결과는 앞쪽 " + maxCandidates + "건까지만 볼 수 있습니다. 검색어를 더 구체적으로 입력하세요.");
+        }
+
+        List<Task> found;
+        boolean truncated = false;
+        try {
+            found = taskRepository.search(query.trim(), pageSize + 1, (int) offset);
+        } catch (QueryTimeoutException e) {
+            log.info("검색어와 일치하는 Task가 너무 많아 최신 {}건으로 관련도를 계산합니다. query={}", maxCandidates, query);
+            found = taskRepository.searchRecent(query.trim(), maxCandidates, pageSize + 1, (int) offset);
+            truncated = true;
+        }
+        boolean hasNext = found.size() > pageSize && offset + pageSize < maxCandidates;
+        List<Task> pageTasks = found.size() > pageSize ? found.subList(0, pageSize) : found;
+
+        List<Long> taskIds = new ArrayList<>(pageTasks.size());
+        for (Task task : pageTasks) {
+            taskIds.add(task.getId());
+        }
+        Map<Long, Long> viewCounts = taskIds.isEmpty() ? Map.of() : viewCounter.getCounts(taskIds);
+
+        List<TaskResponseDto> content = new ArrayList<>(pageTasks.size());
+        for (Task task : pageTasks) {
+            content.add(new TaskResponseDto(task, viewCounts.getOrDefault(task.getId(), 0L)));
+        }
+        return new TaskSearchResponseDto(content, pageNumber, pageSize, hasNext, truncated);
+    }
+}
@@ -1,69 +1,248 @@
 package com.example.task.service;
 
+import com.example.task.dto.TaskPageResponseDto;
+import com.example.task.dto.TaskPatchDto;
 import com.example.task.dto.TaskRequestDto;
 import com.example.task.dto.TaskResponseDto;
+import com.example.task.dto.TaskTopResponseDto;
 import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
 import com.example.task.repository.TaskRepository;
+import com.example.task.repository.TaskWriteRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Task 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
  * 데이터베이스 트랜잭션 관리, 데이터 가공 등의 핵심 로직을 담당합니다.
+ * <p>
+ * 모든 public 메서드의 실행 시간은 {@code task.service} 타이머(method 태그로 구분)로 기록됩니다.
+ * </p>
  */
 @Service
+@Timed(value = "task.service", histogram = true)
 public class TaskService {
 
+    private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+
     private final TaskRepository taskRepository;
-    private final RedisTemplate<String, String> redisTemplate;
-    // Redis 키의 충돌을 방지하고 명확하게 구분하기 위한 접두사입니다.
-    private static final String VIEW_COUNT_KEY_PREFIX = "task:view:count:";
+    private final ViewCounter viewCounter;
+    private final ViewRanking viewRanking;
+    private final TaskCache taskCache;
+    private final TaskListIndex taskListIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int defaultPageSize;
+    private final int maxPageSize;
 
     /**
      * 생성자를 통한 의존성 주입(Dependency Injection)입니다.
-     * Spring이 실행될 때 TaskRepository와 RedisTemplate의 구현체를 자동으로 주입해줍니다.
+     * Spring이 실행될 때 TaskRepository와 ViewCounter의 구현체를 자동으로 주입해줍니다.
      *
-     * @param taskRepository PostgreSQL DB 작업을 위한 리포지토리
-     * @param redisTemplate  Redis 작업을 위한 템플릿
+     * @param taskRepository  PostgreSQL DB 작업을 위한 리포지토리
+     * @param viewCounter     Redis 조회수 카운터 (task.view-count.mode에 따라 구현체가 선택됩니다)
+     * @param viewRanking     조회수 순위 (카운터가 함께 갱신하는 Redis Sorted Set)
+     * @param taskCache       목록 첫 페이지와 Task 상세 캐시
+     * @param taskListIndex   필터 없는 목록을 변경분 단위로 유지하는 Redis 인덱스
+     * @param eventPublisher  Task 변경 이벤트 발행 (커밋 후 인덱스 등에 반영됩니다)
+     * @param defaultPageSize size 파라미터가 없을 때 사용할 페이지 크기
+     * @param maxPageSize     한 번에 조회할 수 있는 최대 페이지 크기
      */
-    public TaskService(TaskRepository taskRepository, RedisTemplate<String, String> redisTemplate) {
+    public TaskService(TaskRepository taskRepository,
+                       ViewCounter viewCounter,
+                       ViewRanking viewRanking,
+                       TaskCache taskCache,
+                       TaskListIndex taskListIndex,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${task.page.default-size:20}") int defaultPageSize,
+                       @Value("${task.page.max-size:100}") int maxPageSize) {
         this.taskRepository = taskRepository;
-        this.redisTemplate = redisTemplate;
+        this.viewCounter = viewCounter;
+        this.viewRanking = viewRanking;
+        this.taskCache = taskCache;
+        this.taskListIndex = taskListIndex;
+        this.eventPublisher = eventPublisher;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
-     * 등록된 모든 Task 목록을 조회합니다.
-     * 각 Task의 조회수는 Redis에서 가져와 함께 반환합니다.
+     * Task 목록을 키셋(cursor) 방식으로 한 페이지씩 조회합니다.
+     * <p>
+     * 필터가 없는 목록은 Redis 목록 인덱스({@link TaskListIndex})에서 읽습니다. 인덱스는 쓰기마다 변경분만 반영되므로
+     * 쓰기가 잦아도 목록 전체를 다시 읽지 않습니다. 인덱스가 덮지 않는 오래된 페이지는 아래와 같이 DB에서 읽습니다.
+     * </p>
+     * <p>
+     * 필터가 있는 첫 페이지(cursor == null)는 필터 조합마다 별도의 캐시 키로 저장됩니다.
+     * 캐시에는 최대 페이지 크기만큼의 구간을 저장해 두고, 요청한 size만큼 잘라서 응답합니다.
+     * 두 번째 페이지부터는 (조건 컬럼, id) 인덱스를 타는 키셋 쿼리로 바로 조회합니다.
+     * </p>
      *
-     * @return TaskResponseDto 리스트
+     * @param status   상태 필터 (선택)
+     * @param assignee 담당자 필터 (선택)
+     * @param priority 우선순위 필터 (선택)
+     * @param cursor   이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기 (없으면 기본값, 최대 페이지 크기를 넘으면 최대값으로 제한)
+     * @return 한 페이지 분량의 Task 목록과 다음 커서
      */
-    @Transactional(readOnly = true) // readOnly=true: 조회 성능을 최적화하는 트랜잭션 설정
-    @Cacheable(value = "tasks", key = "'all'")  // key 추가
-    public List<Task> getAllTasks() {
-        return taskRepository.findAll();
+    public TaskPageResponseDto getTasks(TaskStatus status, String assignee, Integer priority, Long cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        boolean unfiltered = status == null && assignee == null && priority == null;
+        List<Task> window = unfiltered ? taskListIndex.findPage(cursor, pageSize + 1) : null;
+        if (window == null) {
+            window = cursor == null
+                    ? taskCache.getHeadWindow(status, assignee, priority,
+                            () -> new ArrayList<>(taskRepository.findPage(null, status, assignee, priority, maxPageSize + 1)))
+                    : taskRepository.findPage(cursor, status, assignee, priority, pageSize + 1);
+        }
+
+        boolean hasNext = window.size() > pageSize;
+        List<Task> pageTasks = hasNext ? window.subList(0, pageSize) : window;
+        Long nextCursor = hasNext ? pageTasks.get(pageTasks.size() - 1).getId() : null;
+
+        // 페이지에 포함된 Task들의 조회수는 Redis 왕복 한 번(MGET)으로 가져옵니다.
+        List<Long> taskIds = new ArrayList<>(pageTasks.size());
+        for (Task task : pageTasks) {
+            taskIds.add(task.getId());
+        }
+        Map<Long, Long> viewCounts = getViewCounts(taskIds);
+
+        List<TaskResponseDto> content = new ArrayList<>(pageTasks.size());
+        for (Task task : pageTasks) {
+            content.add(new TaskResponseDto(task, viewCounts.getOrDefault(task.getId(), 0L)));
+        }
+        return new TaskPageResponseDto(content, nextCursor, hasNext, pageSize);
     }
 
     /**
      * ID를 기준으로 특정 Task 한 개를 조회합니다.
      * 이 메서드가 호출될 때마다 해당 Task의 조회수가 1 증가합니다.
+     * <p>
+     * DB 조회가 끝난 뒤 조회수를 처리하도록 트랜잭션을 걸지 않습니다.
+     * (Redis 호출 동안 JDBC 커넥션을 붙잡고 있지 않게 하기 위함입니다.)
+     * </p>
      *
      * @param id 조회할 Task의 ID
      * @return 조회된 Task의 정보 (조회수 포함)
      * @throws EntityNotFoundException 해당 ID의 Task가 없을 경우
      */
-    @Transactional(readOnly = true)
     public TaskResponseDto getTaskById(Long id) {
-        Task task = findTaskOrThrow(id);
-        incrementViewCount(id); // Redis의 조회수를 1 증가시킵니다.
-        return new TaskResponseDto(task, getViewCount(id));
+        Task task = findTaskCachedOrThrow(id);
+        long viewCount = viewCounter.incrementAndGet(id); // 조회수를 1 증가시키고 증가된 값을 받습니다.
+        return new TaskResponseDto(task, viewCount);
+    }
+
+    /**
+     * 조회수가 가장 많은 Task를 조회합니다.
+     * <p>
+     * 순위는 Redis Sorted Set({@link ViewRanking})에서 상위 n개만 읽고, Task 본문은 ID 목록으로 한 번에(IN 쿼리) 가져옵니다.
+     * 순위에는 있지만 DB에 없는 Task(삭제 직후 등)는 건너뜁니다.
+     * </p>
+     *
+     * @param n      가져올 개수 (없으면 기본 페이지 크기, 최대 페이지 크기를 넘으면 최대값으로 제한)
+     * @param windowParam 집계 기간 (1h, 24h, 7d 중 하나, 없으면 전체 기간)
+     * @return 조회수가 많은 순서의 Task 목록
+     * @throws ResponseStatusException 지원하지 않는 집계 기간인 경우 (400)
+     */
+    public TaskTopResponseDto getTopViewed(Integer n, String windowParam) {
+        int limit = resolvePageSize(n);
+        Duration window = windowParam == null ? null : viewRanking.getWindows().get(windowParam);
+        if (windowParam != null && window == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "window는 " + String.join(", ", viewRanking.getWindows().keySet()) + " 중 하나여야 합니다.");
+        }
+        Map<Long, Long> ranking = viewRanking.top(limit, window);
+
+        Map<Long, Task> tasks = new HashMap<>();
+        if (!ranking.isEmpty()) {
+            for (Task task : taskRepository.findAllById(ranking.keySet())) {
+                tasks.put(task.getId(), task);
+            }
+        }
+        List<TaskResponseDto> content = new ArrayList<>(ranking.size());
+        ranking.forEach((taskId, views) -> {
+            Task task = tasks.get(taskId);
+            if (task != null) {
+                content.add(new TaskResponseDto(task, views));
+            }
+        });
+        return new TaskTopResponseDto(content, window == null ? null : window.toString());
+    }
+
+    /**
+     * 목록 응답(GET /api/tasks)의 ETag를 만듭니다.
+     * <p>
+     * Task가 생성/수정/삭제될 때마다 커밋 후 증가하는 목록 버전({@link TaskListIndex#getVersionTag()})을 사용하므로,
+     * 모든 파드가 같은 값을 내고 버전이 같으면 어떤 필터/커서의 목록도 바뀌지 않은 것입니다.
+     * 버전에는 카운터가 새로 시작될 때마다 바뀌는 epoch가 들어 있어, Redis가 비워진 뒤에도 이전 ETag와 겹치지 않습니다.
+     * 응답에 포함된 조회수는 버전을 올리지 않으므로 약한(W/) ETag입니다.
+     * </p>
+     * @return ETag, 버전을 읽을 수 없으면 null (조건부 요청 없이 응답합니다)
+     */
+    public String getTasksETag() {
+        try {
+            return "W/\"tasks-" + taskListIndex.getVersionTag() + "\"";
+        } catch (DataAccessException e) {
+            log.warn("목록 버전을 읽지 못해 ETag 없이 응답합니다.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 상세 응답(GET /api/tasks/{id})의 ETag를 만듭니다.
+     * <p>
+     * Task는 수정될 때마다 version이 1씩 늘어나므로 (id, version)이 같으면 조회수를 뺀 내용이 같습니다.
+     * 조회마다 바뀌는 조회수는 반영하지 않으므로 약한(W/) ETag입니다.
+     * </p>
+     * @param task 응답할 Task
+     */
+    public static String taskETag(TaskResponseDto task) {
+        return "W/\"task-" + task.getId() + "-" + (task.getVersion() == null ? 0L : task.getVersion()) + "\"";
+    }
+
+    /**
+     * If-Match 헤더 값에서 기대하는 버전을 꺼냅니다. {@link #taskETag}가 만든 값(W/ 유무 무관)만 받습니다.
+     *
+     * @param id      수정할 Task의 ID
+     * @param ifMatch If-Match 헤더 값 ("*"이면 버전을 검사하지 않으므로 null)
+     * @return 기대하는 버전, 검사하지 않으면 null
+     * @throws IllegalArgumentException 다른 Task의 ETag이거나 형식이 잘못된 경우
+     */
+    public static Long versionFromETag(Long id, String ifMatch) {
+        String value = ifMatch.trim();
+        if (value.equals("*")) {
+            return null;
+        }
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        String prefix = "\"task-" + id + "-";
+        if (!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1) {
+            throw new IllegalArgumentException("If-Match는 이 Task의 ETag여야 합니다: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match는 이 Task의 ETag여야 합니다: " + ifMatch);
+        }
     }
 
     /**
@@ -73,41 +252,105 @@ public class TaskService {
      * @return 생성된 Task의 정보 (조회수는 0)
      */
     @Transactional // 데이터를 변경하므로 readOnly가 아닌 일반 트랜잭션 사용
-    @CacheEvict(value = "tasks", key = "'all'")  // getAllTasks 캐시 무효화
     public Task createTask(Task task) {
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        // 새 Task가 보일 수 있는 첫 페이지 캐시만, 커밋된 뒤에 무효화합니다.
+        taskCache.evictAfterCommit(taskCache.headWindowKeys(savedTask), null);
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
+        return savedTask;
     }
 
     /**
      * 기존 Task의 정보를 수정합니다.
      *
-     * @param id         수정할 Task의 ID
-     * @param requestDto 수정할 내용이 담긴 DTO
+     * expectedVersion을 주면 현재 버전이 그 값일 때만 수정합니다. 읽은 뒤 저장하기 전에 다른 요청이 먼저 수정한 경우도
+     * JPA의 @Version 검사로 같은 예외가 발생합니다.
+     *
+     * @param id              수정할 Task의 ID
+     * @param requestDto      수정할 내용이 담긴 DTO
+     * @param expectedVersion 클라이언트가 마지막으로 읽은 버전 (없으면 null)
      * @return 수정된 Task의 정보
-     * @throws EntityNotFoundException 해당 ID의 Task가 없을 경우
+     * @throws EntityNotFoundException            해당 ID의 Task가 없을 경우
+     * @throws OptimisticLockingFailureException expectedVersion이 현재 버전과 다를 경우
      */
     @Transactional
-    public TaskResponseDto updateTask(Long id, TaskRequestDto requestDto) {
+    public TaskResponseDto updateTask(Long id, TaskRequestDto requestDto, Long expectedVersion) {
         Task task = findTaskOrThrow(id);
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new OptimisticLockingFailureException(
+                    "Task " + id + "의 버전이 일치하지 않습니다. (요청: " + expectedVersion + ", 현재: " + task.getVersion() + ")");
+        }
+        // 수정 전/후 필터 값 모두에 해당하는 첫 페이지 캐시를 무효화해야 하므로 수정 전 키를 먼저 구합니다.
+        Set<String> staleKeys = taskCache.headWindowKeys(task);
+        Task before = TaskChangedEvent.snapshot(task);
         updateTaskFromDto(task, requestDto);
-        Task updatedTask = taskRepository.save(task);
+        // 응답의 version(과 ETag)이 실제로 저장된 값이 되도록 바로 flush해 @Version을 올립니다.
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        staleKeys.addAll(taskCache.headWindowKeys(updatedTask));
+        taskCache.evictAfterCommit(staleKeys, id);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, updatedTask));
         return new TaskResponseDto(updatedTask, getViewCount(id));
     }
 
     /**
-     * ID를 기준으로 특정 Task를 삭제합니다.
-     * 데이터베이스의 Task 정보와 Redis의 조회수 정보를 모두 삭제합니다.
+     * 요청 본문에 들어 있는 필드만 수정합니다. (PATCH)
+     * <p>
+     * Task를 먼저 읽지 않고 조건부 UPDATE ... RETURNING 한 문장으로 수정 전/후 값을 함께 받으므로 DB 왕복은 한 번입니다.
+     * expectedVersion을 주면 그 버전일 때만 수정되고, 그 사이 다른 요청이 먼저 수정했다면 예외가 발생합니다.
+     * 응답의 조회수는 Redis를 다시 읽지 않도록 채우지 않습니다. (null)
+     * </p>
      *
-     * @param id 삭제할 Task의 ID
-     * @throws EntityNotFoundException 해당 ID의 Task가 없을 경우
+     * @param id              수정할 Task의 ID
+     * @param patch           수정할 필드
+     * @param expectedVersion 클라이언트가 마지막으로 읽은 버전 (없으면 null)
+     * @return 수정된 Task의 정보
+     * @throws EntityNotFoundException            해당 ID의 Task가 없을 경우
+     * @throws OptimisticLockingFailureException expectedVersion이 현재 버전과 다를 경우
      */
     @Transactional
-    public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new EntityNotFoundException("ID가 " + id + "인 Task를 찾을 수 없습니다.");
+    public TaskResponseDto patchTask(Long id, TaskPatchDto patch, Long expectedVersion) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        if (patch.isTitleSet()) {
+            columns.put(TaskWriteRepository.TITLE, patch.getTitle());
+        }
+        if (patch.isDescriptionSet()) {
+            columns.put(TaskWriteRepository.DESCRIPTION, patch.getDescription());
         }
-        taskRepository.deleteById(id);
-        redisTemplate.delete(VIEW_COUNT_KEY_PREFIX + id); // Redis에 저장된 조회수 데이터도 함께 삭제합니다.
+        if (patch.isStatusSet()) {
+            columns.put(TaskWriteRepository.STATUS, patch.getStatus());
+        }
+        if (patch.isPrioritySet()) {
+            columns.put(TaskWriteRepository.PRIORITY, patch.getPriority());
+        }
+        if (patch.isAssigneeSet()) {
+            columns.put(TaskWriteRepository.ASSIGNEE, patch.getAssignee());
+        }
+        TaskWriteRepository.Updated updated = taskRepository.patch(id, columns, expectedVersion);
+
+        Set<String> staleKeys = taskCache.headWindowKeys(updated.getBefore());
+        staleKeys.addAll(taskCache.headWindowKeys(updated.getAfter()));
+        taskCache.evictAfterCommit(staleKeys, id);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(updated.getBefore(), updated.getAfter()));
+        return new TaskResponseDto(updated.getAfter(), null);
+    }
+
+    /**
+     * ID를 기준으로 특정 Task를 삭제합니다.
+     * <p>
+     * DELETE ... RETURNING 한 문장으로 삭제하고 삭제된 행을 받아 커밋 후 캐시를 무효화합니다. (DB 왕복 한 번)
+     * Redis의 조회수/순위 정보는 커밋 후 {@link ViewCountCleaner}가 비동기로 삭제합니다.
+     * </p>
+     *
+     * @param id              삭제할 Task의 ID
+     * @param expectedVersion 이 버전일 때만 삭제 (null이면 버전과 상관없이 삭제)
+     * @throws EntityNotFoundException            해당 ID의 Task가 없을 경우
+     * @throws OptimisticLockingFailureException expectedVersion이 현재 버전과 다를 경우
+     */
+    @Transactional
+    public void deleteTask(Long id, Long expectedVersion) {
+        Task task = taskRepository.deleteReturning(id, expectedVersion);
+        taskCache.evictAfterCommit(taskCache.headWindowKeys(task), id);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
     }
     
     // --- Private Helper Methods (내부 로직을 돕는 메서드) ---
@@ -122,12 +365,35 @@ public class TaskService {
                 .orElseThrow(() -> new EntityNotFoundException("ID가 " + id + "인 Task를 찾을 수 없습니다."));
     }
 
+    /**
+     * 'task' 캐시(L1 → L2)에서 Task를 찾고, 없으면 캐시의 로더로 DB에서 조회해 채워 넣습니다.
+     * 로드하는 동안 수정/삭제로 무효화되면 읽은 값은 캐시에 넣지 않습니다. 존재하지 않는 ID는 캐시하지 않습니다.
+     * @param id 찾을 Task의 ID
+     * @return 찾아낸 Task (영속성 컨텍스트와 분리된 객체입니다)
+     */
+    private Task findTaskCachedOrThrow(Long id) {
+        return taskCache.getTask(id, () -> findTaskOrThrow(id));
+    }
+
+    /**
+     * size 파라미터를 1 이상, 최대 페이지 크기 이하로 보정합니다.
+     * @param size 요청한 페이지 크기 (null 가능)
+     * @return 실제로 사용할 페이지 크기
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        return Math.max(1, Math.min(size, maxPageSize));
+    }
+
     /**
      * TaskRequestDto의 내용으로 Task 엔티티의 필드를 업데이트하는 Helper 메서드입니다.
+     * (일괄 수정에서도 같은 규칙을 쓰도록 패키지 내부에 공개합니다.)
      * @param task 업데이트할 Task 엔티티
      * @param dto  업데이트할 내용을 담은 DTO
      */
-    private void updateTaskFromDto(Task task, TaskRequestDto dto) {
+    static void updateTaskFromDto(Task task, TaskRequestDto dto) {
         task.setTitle(dto.getTitle());
         task.setDescription(dto.getDescription());
         task.setStatus(dto.getStatus());
@@ -136,25 +402,25 @@ public class TaskService {
     }
 
     /**
-     * Redis에서 특정 Task의 조회수를 1 증가시킵니다.
-     * Redis의 INCR 명령어를 사용하여 원자적(atomic)으로 연산을 처리합니다.
-     * @param taskId 조회수를 증가시킬 Task의 ID
-     */
-    private void incrementViewCount(Long taskId) {
-        String key = VIEW_COUNT_KEY_PREFIX + taskId;
-        redisTemplate.opsForValue().increment(key);
-    }
-
-    /**
-     * Redis에서 특정 Task의 현재 조회수를 가져옵니다.
+     * 특정 Task의 현재 조회수를 가져옵니다.
      * 키가 존재하지 않으면(조회된 적이 없으면) 0을 반환합니다.
      * @param taskId 조회수를 가져올 Task의 ID
      * @return 조회수 (Long 타입)
      */
     public Long getViewCount(Long taskId) {
-        String key = VIEW_COUNT_KEY_PREFIX + taskId;
-        String countStr = redisTemplate.opsForValue().get(key);
-        return countStr == null ? 0L : Long.parseLong(countStr);
+        return viewCounter.getCount(taskId);
     }
-}
 
+    /**
+     * 여러 Task의 조회수를 한꺼번에 가져옵니다.
+     * Task마다 Redis를 왕복하지 않고 MGET으로 일괄 조회하며, 요청이 크면 설정된 크기로 나누어 조회합니다.
+     * @param taskIds 조회수를 가져올 Task ID 목록
+     * @return Task ID -> 조회수
+     */
+    public Map<Long, Long> getViewCounts(List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        return viewCounter.getCounts(taskIds);
+    }
+}
@@ -0,0 +1,315 @@
+package com.example.task.service;
+
+import com.example.task.dto.TaskStatsResponseDto;
+import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+import com.example.task.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 대시보드용 Task 집계(상태별 개수, 담당자별 미완료 개수)를 Redis 해시 카운터로 유지하는 서비스입니다.
+ * <p>
+ * Task가 생성/수정/삭제되면 커밋 후에 {@link TaskChangedEvent}의 수정 전/후 값으로 해당 칸만 증감합니다.
+ * (상태가 바뀌면 이전 상태 -1, 새 상태 +1) 따라서 조회는 테이블 크기와 상관없이 해시 두 개를 읽는 것으로 끝납니다.
+ * </p>
+ * <p>
+ * 반영이 누락되면(파드 종료, Redis 오류 등) 카운터가 어긋날 수 있으므로, {@code reconcile-interval}마다 파드 하나가
+ * GROUP BY 결과와 비교해 보정합니다. 비교하는 순간에 처리 중인 쓰기로 생긴 일시적인 차이를 잘못 고치지 않도록,
+ * 같은 칸에서 같은 차이가 연속 두 번 관찰될 때만 그 차이만큼 증감합니다. (덮어쓰지 않으므로 그 사이의 증감도 유지됩니다)
+ * </p>
+ */
+@Service
+public class TaskStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatsService.class);
+
+    // 카운터가 초기화되었음을 나타내는 키. 없으면 증감을 반영하지 않고 다음 조회/보정 때 DB에서 채웁니다.
+    private static final String READY_KEY = "{task:stats}:ready";
+    // 상태 -> Task 수
+    private static final String STATUS_KEY = "{task:stats}:status";
+    // 담당자 -> 미완료 Task 수 (담당자 없음은 빈 문자열)
+    private static final String OPEN_KEY = "{task:stats}:open";
+    // 직전 보정에서 관찰한 차이 (s:상태 / o:담당자 -> DB 값 - Redis 값)
+    private static final String DRIFT_KEY = "{task:stats}:drift";
+    private static final String RECONCILE_LOCK_KEY = "{task:stats}:reconcile-lock";
+
+    private static final String STATUS_FIELD_PREFIX = "s:";
+    private static final String OPEN_FIELD_PREFIX = "o:";
+    private static final String UNASSIGNED = "";
+
+    // KEYS: ready, status, open / ARGV: 상태 칸 수 n, (상태, 증감) n쌍, (담당자, 증감) 나머지
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return 0 end
+            local n = tonumber(ARGV[1])
+            for i = 2, 1 + n * 2, 2 do redis.call('hincrby', KEYS[2], ARGV[i], ARGV[i + 1]) end
+            for i = 2 + n * 2, #ARGV, 2 do redis.call('hincrby', KEYS[3], ARGV[i], ARGV[i + 1]) end
+            return 1
+            """, Long.class);
+
+    // KEYS: ready, status, open / ARGV: APPLY_SCRIPT와 같은 형식의 (칸, 값)
+    private static final RedisScript<Long> INIT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 1 then return 0 end
+            redis.call('del', KEYS[2], KEYS[3])
+            local n = tonumber(ARGV[1])
+            for i = 2, 1 + n * 2, 2 do redis.call('hset', KEYS[2], ARGV[i], ARGV[i + 1]) end
+            for i = 2 + n * 2, #ARGV, 2 do redis.call('hset', KEYS[3], ARGV[i], ARGV[i + 1]) end
+            redis.call('set', KEYS[1], '1')
+            return 1
+            """, Long.class);
+
+    private static final List<String> COUNTER_KEYS = List.of(READY_KEY, STATUS_KEY, OPEN_KEY);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TaskRepository taskRepository;
+    private final Duration reconcileInterval;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicBoolean initializing = new AtomicBoolean();
+    private final Counter driftCorrections;
+
+    public TaskStatsService(StringRedisTemplate redisTemplate,
+                            TaskRepository taskRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${task.stats.reconcile-interval:5m}") Duration reconcileInterval) {
+        this.redisTemplate = redisTemplate;
+        this.taskRepository = taskRepository;
+        this.reconcileInterval = reconcileInterval;
+        this.driftCorrections = Counter.builder("task.stats.drift.corrections")
+                .description("보정 작업이 고친 카운터 칸 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상태별 개수와 담당자별 미완료 개수를 조회합니다.
+     * 카운터가 아직 없으면 (처음 시작, Redis 초기화) 이번 한 번만 DB에서 집계해 채웁니다.
+     */
+    public TaskStatsResponseDto getStats() {
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.hasKey(READY_KEY);
+                    ops.opsForHash().entries(STATUS_KEY);
+                    ops.opsForHash().entries(OPEN_KEY);
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("통계 카운터를 읽지 못했습니다. DB에서 집계합니다.", e);
+            Counts counts = loadFromDatabase();
+            return toResponse(counts.byStatus, counts.openByAssignee);
+        }
+        if (!Boolean.TRUE.equals(results.get(0))) {
+            Counts counts = loadFromDatabase();
+            if (initializing.compareAndSet(false, true)) {
+                try {
+                    initialize(counts);
+                } finally {
+                    initializing.set(false);
+                }
+            }
+            return toResponse(counts.byStatus, counts.openByAssignee);
+        }
+        return toResponse(toLongMap(results.get(1)), toLongMap(results.get(2)));
+    }
+
+    /**
+     * 커밋된 변경을 카운터에 반영합니다. 실패해도 이미 커밋된 요청은 실패시키지 않고 보정 작업에 맡깁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Map<String, Long> statusDelta = new LinkedHashMap<>();
+        Map<String, Long> openDelta = new LinkedHashMap<>();
+        for (TaskChangedEvent.Change change : event.getChanges()) {
+            count(change.getBefore(), -1, statusDelta, openDelta);
+            count(change.getAfter(), 1, statusDelta, openDelta);
+        }
+        statusDelta.values().removeIf(delta -> delta == 0);
+        openDelta.values().removeIf(delta -> delta == 0);
+        if (statusDelta.isEmpty() && openDelta.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(APPLY_SCRIPT, COUNTER_KEYS, toArgs(statusDelta, openDelta));
+        } catch (DataAccessException e) {
+            log.warn("통계 카운터에 변경을 반영하지 못했습니다. 보정 작업에서 맞춰집니다.", e);
+        }
+    }
+
+    /**
+     * 카운터를 GROUP BY 결과와 비교해 어긋난 칸을 보정합니다. 여러 파드 중 한 곳에서만 실행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${task.stats.reconcile-interval:5m}",
+            initialDelayString = "${task.stats.reconcile-initial-delay:30s}")
+    public void reconcile() {
+        try {
+            Boolean locked = redisTemplate.opsForValue()
+                    .setIfAbsent(RECONCILE_LOCK_KEY, instanceId, reconcileInterval.dividedBy(2));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+            // DB를 먼저 읽고 Redis를 읽습니다. 그 사이에 커밋된 쓰기는 Redis에만 보이므로 일시적인 차이로 나타납니다.
+            Counts db = loadFromDatabase();
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY))) {
+                initialize(db);
+                return;
+            }
+            Map<String, Long> redisStatus = toLongMap(redisTemplate.opsForHash().entries(STATUS_KEY));
+            Map<String, Long> redisOpen = toLongMap(redisTemplate.opsForHash().entries(OPEN_KEY));
+
+            Map<String, Long> drift = new HashMap<>();
+            diff(STATUS_FIELD_PREFIX, db.byStatus, redisStatus, drift);
+            diff(OPEN_FIELD_PREFIX, db.openByAssignee, redisOpen, drift);
+            Map<String, Long> previous = toLongMap(redisTemplate.opsForHash().entries(DRIFT_KEY));
+
+            Map<String, Long> statusFix = new LinkedHashMap<>();
+            Map<String, Long> openFix = new LinkedHashMap<>();
+            drift.forEach((field, delta) -> {
+                if (!delta.equals(previous.get(field))) {
+                    return;
+                }
+                if (field.startsWith(STATUS_FIELD_PREFIX)) {
+                    statusFix.put(field.substring(STATUS_FIELD_PREFIX.length()), delta);
+                } else {
+                    openFix.put(field.substring(OPEN_FIELD_PREFIX.length()), delta);
+                }
+            });
+            if (!statusFix.isEmpty() || !openFix.isEmpty()) {
+                redisTemplate.execute(APPLY_SCRIPT, COUNTER_KEYS, toArgs(statusFix, openFix));
+                driftCorrections.increment(statusFix.size() + openFix.size());
+                log.info("통계 카운터를 보정했습니다. status={}, open={}", statusFix, openFix);
+                statusFix.keySet().forEach(field -> drift.remove(STATUS_FIELD_PREFIX + field));
+                openFix.keySet().forEach(field -> drift.remove(OPEN_FIELD_PREFIX + field));
+            }
+
+            redisTemplate.delete(DRIFT_KEY);
+            if (!drift.isEmpty()) {
+                Map<String, String> stored = new HashMap<>();
+                drift.forEach((field, delta) -> stored.put(field, String.valueOf(delta)));
+                redisTemplate.opsForHash().putAll(DRIFT_KEY, stored);
+            }
+        } catch (DataAccessException e) {
+            log.warn("통계 카운터 보정에 실패했습니다. 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    // --- Private Helper Methods ---
+
+    private void initialize(Counts counts) {
+        try {
+            redisTemplate.execute(INIT_SCRIPT, COUNTER_KEYS, toArgs(counts.byStatus, counts.openByAssignee));
+        } catch (DataAccessException e) {
+            log.warn("통계 카운터를 초기화하지 못했습니다.", e);
+        }
+    }
+
+    private Counts loadFromDatabase() {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (Object[] row : taskRepository.countByStatus()) {
+            byStatus.put(((TaskStatus) row[0]).name(), (Long) row[1]);
+        }
+        Map<String, Long> openByAssignee = new LinkedHashMap<>();
+        for (Object[] row : taskRepository.countOpenByAssignee(TaskStatus.DONE)) {
+            openByAssignee.put(row[0] == null ? UNASSIGNED : (String) row[0], (Long) row[1]);
+        }
+        return new Counts(byStatus, openByAssignee);
+    }
+
+    private static void count(Task task, long sign, Map<String, Long> statusDelta, Map<String, Long> openDelta) {
+        if (task == null) {
+            return;
+        }
+        statusDelta.merge(task.getStatus().name(), sign, Long::sum);
+        if (task.getStatus() != TaskStatus.DONE) {
+            openDelta.merge(task.getAssignee() == null ? UNASSIGNED : task.getAssignee(), sign, Long::sum);
+        }
+    }
+
+    private static void diff(String prefix, Map<String, Long> expected, Map<String, Long> actual, Map<String, Long> drift) {
+        Set<String> fields = new HashSet<>(expected.keySet());
+        fields.addAll(actual.keySet());
+        for (String field : fields) {
+            long delta = expected.getOrDefault(field, 0L) - actual.getOrDefault(field, 0L);
+            if (delta != 0) {
+                drift.put(prefix + field, delta);
+            }
+        }
+    }
+
+    private static Object[] toArgs(Map<String, Long> statusValues, Map<String, Long> openValues) {
+        List<String> args = new ArrayList<>(1 + (statusValues.size() + openValues.size()) * 2);
+        args.add(String.valueOf(statusValues.size()));
+        statusValues.forEach((field, value) -> {
+            args.add(field);
+            args.add(String.valueOf(value));
+        });
+        openValues.forEach((field, value) -> {
+            args.add(field);
+            args.add(String.valueOf(value));
+        });
+        return args.toArray();
+    }
+
+    private static Map<String, Long> toLongMap(Object hash) {
+        Map<String, Long> result = new HashMap<>();
+        if (hash instanceof Map<?, ?> map) {
+            map.forEach((field, value) -> result.put(String.valueOf(field), Long.parseLong(String.valueOf(value))));
+        }
+        return result;
+    }
+
+    private static TaskStatsResponseDto toResponse(Map<String, Long> byStatus, Map<String, Long> openByAssignee) {
+        Map<String, Long> statusCounts = new LinkedHashMap<>();
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = byStatus.getOrDefault(status.name(), 0L);
+            statusCounts.put(status.name(), count);
+            total += count;
+        }
+        Map<String, Long> assigneeCounts = new TreeMap<>();
+        openByAssignee.forEach((assignee, count) -> {
+            if (count > 0 && !UNASSIGNED.equals(assignee)) {
+                assigneeCounts.put(assignee, count);
+            }
+        });
+        return new TaskStatsResponseDto(total, statusCounts, assigneeCounts,
+                Math.max(0L, openByAssignee.getOrDefault(UNASSIGNED, 0L)));
+    }
+
+    private static final class Counts {
+        private final Map<String, Long> byStatus;
+        private final Map<String, Long> openByAssignee;
+
+        private Counts(Map<String, Long> byStatus, Map<String, Long> openByAssignee) {
+            this.byStatus = byStatus;
+            this.openByAssignee = openByAssignee;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.task.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 삭제된 Task의 조회수와 조회수 순위를 Redis에서 정리하는 컴포넌트입니다.
+ * <p>
+ * 삭제가 커밋된 뒤에 별도 스레드에서 정리하므로, 삭제 요청은 DB 왕복만 기다리고 Redis 호출을 기다리지 않습니다.
+ * 정리가 늦어지거나 실패해도 삭제된 Task는 목록/상세/순위 응답에 나오지 않으므로 (순위 조회는 DB에 없는 ID를 건너뜁니다)
+ * 남은 키는 공간만 차지할 뿐 응답에는 영향이 없습니다.
+ * 대기열이 가득 차면 호출한 스레드에서 바로 정리합니다.
+ * </p>
+ */
+@Component
+public class ViewCountCleaner {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewCountCleaner.class);
+
+    private final ViewCounter viewCounter;
+    private final ExecutorService executor;
+
+    public ViewCountCleaner(ViewCounter viewCounter) {
+        this.viewCounter = viewCounter;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "view-count-cleaner");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        List<Long> deletedIds = new ArrayList<>();
+        for (TaskChangedEvent.Change change : event.getChanges()) {
+            if (change.isDeleted()) {
+                deletedIds.add(change.getId());
+            }
+        }
+        if (!deletedIds.isEmpty()) {
+            executor.execute(() -> remove(deletedIds));
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 대기 중인 정리 작업을 마저 처리합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void remove(List<Long> taskIds) {
+        try {
+            viewCounter.removeAll(taskIds);
+        } catch (RuntimeException e) {
+            log.warn("삭제된 Task의 조회수를 정리하지 못했습니다. ids={}", taskIds, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.task.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 Task의 조회수를 Redis에서 한꺼번에 읽어오는 컴포넌트입니다.
+ * <p>
+ * 목록 조회처럼 한 번에 여러 Task의 조회수가 필요할 때 키마다 GET을 보내면 Task 수만큼 왕복이 생기므로,
+ * MGET 한 번으로 읽습니다. 요청한 ID가 {@code batch-size}보다 많으면 나누어 MGET을 보냅니다.
+ * </p>
+ * <p>
+ * 자주 조회되는 Task가 목록 조회마다 Redis를 다시 읽지 않도록, 읽은 값을 {@code local-cache-ttl} 동안 메모리에 보관합니다.
+ * 목록에 보이는 조회수는 이 시간만큼 늦게 반영될 수 있습니다. (상세 조회는 이 캐시를 사용하지 않습니다.)
+ * </p>
+ */
+@Component
+public class ViewCountReader {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int batchSize;
+    private final long localCacheTtlNanos;
+    private final int localCacheMaxEntries;
+
+    // Task ID -> 최근에 Redis에서 읽은 조회수
+    private final ConcurrentHashMap<Long, CachedCount> localCache = new ConcurrentHashMap<>();
+
+    public ViewCountReader(RedisTemplate<String, String> redisTemplate,
+                           @Value("${task.view-count.batch-size:500}") int batchSize,
+                           @Value("${task.view-count.local-cache-ttl:1s}") Duration localCacheTtl,
+                           @Value("${task.view-count.local-cache-max-entries:10000}") int localCacheMaxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.localCacheTtlNanos = localCacheTtl.toNanos();
+        this.localCacheMaxEntries = localCacheMaxEntries;
+    }
+
+    /**
+     * 여러 Task의 조회수를 한꺼번에 조회합니다. 조회된 적이 없는 Task는 0입니다.
+     * @param taskIds 조회수를 가져올 Task ID 목록
+     * @return Task ID -> 조회수
+     */
+    public Map<Long, Long> getCounts(Collection<Long> taskIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        long now = System.nanoTime();
+        for (Long taskId : new LinkedHashSet<>(taskIds)) {
+            CachedCount cached = localCache.get(taskId);
+            if (cached != null && cached.expiresAt - now > 0) {
+                counts.put(taskId, cached.count);
+            } else {
+                misses.add(taskId);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += batchSize) {
+            List<Long> chunk = misses.subList(from, Math.min(from + batchSize, misses.size()));
+            List<String> keys = new ArrayList<>(chunk.size());
+            for (Long taskId : chunk) {
+                keys.add(ViewCounter.key(taskId));
+            }
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            for (int i = 0; i < chunk.size(); i++) {
+                String countStr = values == null ? null : values.get(i);
+                long count = countStr == null ? 0L : Long.parseLong(countStr);
+                counts.put(chunk.get(i), count);
+                remember(chunk.get(i), count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 로컬 캐시에서 해당 Task를 제거합니다. (Task 삭제 시 사용)
+     * @param taskId 제거할 Task ID
+     */
+    public void forget(Long taskId) {
+        localCache.remove(taskId);
+    }
+
+    private void remember(Long taskId, long count) {
+        if (localCacheTtlNanos <= 0) {
+            return;
+        }
+        if (localCache.size() >= localCacheMaxEntries) {
+            // 상한을 넘으면 통째로 비웁니다. 항목들이 짧은 시간 안에 어차피 만료되므로 LRU를 둘 만큼의 이득이 없습니다.
+            localCache.clear();
+        }
+        localCache.put(taskId, new CachedCount(count, System.nanoTime() + localCacheTtlNanos));
+    }
+
+    private static final class CachedCount {
+        private final long count;
+        private final long expiresAt;
+
+        private CachedCount(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
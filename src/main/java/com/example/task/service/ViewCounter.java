@@ -0,0 +1,58 @@
+package com.example.task.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Task 조회수를 관리하는 카운터입니다.
+ * <p>
+ * 설정값 {@code task.view-count.mode}에 따라 구현체가 선택됩니다.
+ * <ul>
+ *     <li>{@code sync} (기본값): 조회할 때마다 Redis INCR 한 번으로 증가 및 조회를 처리합니다. ({@link RedisViewCounter})</li>
+ *     <li>{@code write-behind}: 증가분을 메모리에 모았다가 주기적으로 Redis에 한꺼번에 반영합니다. ({@link BufferedViewCounter})</li>
+ * </ul>
+ * </p>
+ */
+public interface ViewCounter {
+
+    /** 조회수 Redis 키의 접두사입니다. (예: task:view:count:42) */
+    String KEY_PREFIX = "task:view:count:";
+
+    /**
+     * 조회수를 1 증가시키고 증가된 조회수를 반환합니다.
+     * @param taskId 조회수를 증가시킬 Task의 ID
+     * @return 증가 후의 조회수
+     */
+    long incrementAndGet(Long taskId);
+
+    /**
+     * 현재 조회수를 반환합니다. 조회된 적이 없으면 0을 반환합니다.
+     * @param taskId 조회수를 가져올 Task의 ID
+     * @return 조회수
+     */
+    long getCount(Long taskId);
+
+    /**
+     * 여러 Task의 조회수를 한꺼번에 조회합니다. (목록 조회용)
+     * Task 수만큼 왕복하지 않도록 Redis MGET으로 일괄 조회합니다.
+     * @param taskIds 조회수를 가져올 Task ID 목록
+     * @return Task ID -> 조회수 (조회된 적이 없으면 0)
+     */
+    Map<Long, Long> getCounts(Collection<Long> taskIds);
+
+    /**
+     * Task 삭제 시 조회수 정보를 함께 삭제합니다.
+     * @param taskId 삭제된 Task의 ID
+     */
+    void remove(Long taskId);
+
+    /**
+     * 여러 Task의 조회수 정보를 한 번에 삭제합니다. (일괄 삭제 시 사용, Redis DEL 한 번)
+     * @param taskIds 삭제된 Task ID 목록
+     */
+    void removeAll(Collection<Long> taskIds);
+
+    static String key(Long taskId) {
+        return KEY_PREFIX + taskId;
+    }
+}
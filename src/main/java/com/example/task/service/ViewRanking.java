@@ -0,0 +1,269 @@
+package com.example.task.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 조회수 순위(가장 많이 조회된 Task)를 Redis Sorted Set으로 유지하는 컴포넌트입니다.
+ * <p>
+ * 조회수 카운터({@link ViewCounter})가 증가분을 Redis에 쓸 때 같은 파이프라인에서 아래 집합의 점수도 함께 올립니다.
+ * <ul>
+ *     <li>전체 순위: {@code {task:view:rank}:all} - 점수가 곧 누적 조회수입니다. 상위 N개 조회는 O(log N + N)입니다.</li>
+ *     <li>시간대별 순위: {@code {task:view:rank}:h:<epoch 시>} - 한 시간 동안의 조회수이며 {@code retention}이 지나면 만료됩니다.</li>
+ * </ul>
+ * 기간 순위는 {@link #WINDOWS}(1시간, 24시간, 7일) 중 보관 기간 안에 드는 것만 지원합니다.
+ * 해당 시간대 집합들을 ZUNIONSTORE로 합쳐 {@code window-cache-ttl} 동안 보관해 두고 읽으므로,
+ * 합친 결과는 기간마다 하나뿐이고 최대 {@code window-cache-ttl}만큼 늦게 반영됩니다.
+ * </p>
+ * <p>
+ * 모든 키는 같은 해시 태그를 쓰므로 Redis Cluster에서도 한 슬롯에 모여 ZUNIONSTORE를 실행할 수 있습니다.
+ * </p>
+ */
+@Component
+public class ViewRanking {
+
+    private static final Logger log = LoggerFactory.getLogger(ViewRanking.class);
+
+    private static final String KEY_PREFIX = "{task:view:rank}:";
+    private static final String ALL_KEY = KEY_PREFIX + "all";
+    // 기존 조회수 키로 전체 순위를 채우는 중("seeding", 만료 있음)이거나 다 채웠음("done", 만료 없음)을 나타냅니다.
+    private static final String SEEDED_KEY = KEY_PREFIX + "seeded";
+    private static final String SEEDING = "seeding";
+    private static final String SEEDED = "done";
+    // 채우던 파드가 죽으면 이 시간 뒤에 다른 파드가 다시 채울 수 있습니다. (배치마다 연장)
+    private static final Duration SEED_LEASE = Duration.ofMinutes(5);
+    private static final long HOUR_MILLIS = Duration.ofHours(1).toMillis();
+
+    /** 기간 순위가 지원하는 집계 기간입니다. (window 파라미터 값 -> 기간, 보관 기간을 넘는 것은 제외) */
+    public static final Map<String, Duration> WINDOWS;
+
+    static {
+        Map<String, Duration> windows = new LinkedHashMap<>();
+        windows.put("1h", Duration.ofHours(1));
+        windows.put("24h", Duration.ofHours(24));
+        windows.put("7d", Duration.ofDays(7));
+        WINDOWS = Collections.unmodifiableMap(windows);
+    }
+
+    // KEYS[1]: 합친 결과를 보관할 키, KEYS[2..]: 시간대별 집합 / ARGV: 보관 시간(ms), N
+    private static final RedisScript<List> WINDOW_TOP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then
+              redis.call('zunionstore', KEYS[1], #KEYS - 1, unpack(KEYS, 2))
+              redis.call('pexpire', KEYS[1], ARGV[1])
+            end
+            return redis.call('zrevrange', KEYS[1], 0, tonumber(ARGV[2]) - 1, 'withscores')
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration retention;
+    private final Duration windowCacheTtl;
+    private final Map<String, Duration> windows;
+
+    public ViewRanking(RedisTemplate<String, String> redisTemplate,
+                       @Value("${task.view-ranking.retention:7d}") Duration retention,
+                       @Value("${task.view-ranking.window-cache-ttl:30s}") Duration windowCacheTtl) {
+        this.redisTemplate = redisTemplate;
+        this.retention = retention;
+        this.windowCacheTtl = windowCacheTtl;
+        Map<String, Duration> supported = new LinkedHashMap<>();
+        WINDOWS.forEach((name, window) -> {
+            if (window.compareTo(retention) <= 0) {
+                supported.put(name, window);
+            }
+        });
+        this.windows = Collections.unmodifiableMap(supported);
+    }
+
+    /**
+     * 조회수 증가분을 순위에 반영하는 명령을 추가합니다. 조회수 카운터의 파이프라인 안에서 호출합니다.
+     * @param ops     파이프라인 중인 Redis 연결
+     * @param taskId  조회된 Task의 ID
+     * @param delta   증가분
+     */
+    void addViews(RedisOperations<String, String> ops, Long taskId, long delta) {
+        String member = String.valueOf(taskId);
+        String bucketKey = bucketKey(currentHour());
+        ops.opsForZSet().incrementScore(ALL_KEY, member, delta);
+        ops.opsForZSet().incrementScore(bucketKey, member, delta);
+        ops.expire(bucketKey, retention.plusHours(1));
+    }
+
+    /**
+     * 조회수가 가장 많은 Task를 조회합니다.
+     * @param n      가져올 개수
+     * @param window 집계 기간 (null이면 전체 기간, 그 외에는 {@link #getWindows()}의 값 중 하나)
+     * @return Task ID -> 조회수 (조회수가 많은 순서)
+     * @throws IllegalArgumentException 지원하지 않는 집계 기간인 경우
+     */
+    public Map<Long, Long> top(int n, Duration window) {
+        if (window == null) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(ALL_KEY, 0, n - 1);
+            Map<Long, Long> ranking = new LinkedHashMap<>();
+            if (tuples != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                    ranking.put(Long.valueOf(tuple.getValue()), tuple.getScore() == null ? 0L : tuple.getScore().longValue());
+                }
+            }
+            return ranking;
+        }
+
+        if (!windows.containsValue(window)) {
+            throw new IllegalArgumentException("지원하지 않는 집계 기간입니다: " + window);
+        }
+        long hours = hoursOf(window);
+        long hour = currentHour();
+        List<String> keys = new ArrayList<>((int) hours + 1);
+        keys.add(KEY_PREFIX + "w:" + hours + ":" + hour);
+        for (long h = hour; h > hour - hours; h--) {
+            keys.add(bucketKey(h));
+        }
+        List<?> flat = redisTemplate.execute(WINDOW_TOP_SCRIPT, keys,
+                String.valueOf(windowCacheTtl.toMillis()), String.valueOf(n));
+        Map<Long, Long> ranking = new LinkedHashMap<>();
+        if (flat != null) {
+            for (int i = 0; i + 1 < flat.size(); i += 2) {
+                ranking.put(Long.valueOf(String.valueOf(flat.get(i))), (long) Double.parseDouble(String.valueOf(flat.get(i + 1))));
+            }
+        }
+        return ranking;
+    }
+
+    /**
+     * 기간 순위가 지원하는 집계 기간입니다. ({@link #WINDOWS} 중 시간대별 집합의 보관 기간 안에 드는 것)
+     */
+    public Map<String, Duration> getWindows() {
+        return windows;
+    }
+
+    /**
+     * 삭제된 Task를 전체 순위와 보관 중인 모든 시간대 순위에서 제거합니다. (파이프라인 한 번)
+     * 이미 합쳐 둔 기간 순위에는 남아 있을 수 있으므로, 조회하는 쪽은 DB에 없는 ID를 건너뜁니다.
+     * @param taskIds 삭제된 Task ID 목록
+     */
+    void remove(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        Object[] members = taskIds.stream().map(String::valueOf).toArray();
+        long hour = currentHour();
+        long hours = hoursOf(retention);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().remove(ALL_KEY, members);
+                for (long h = hour; h >= hour - hours; h--) {
+                    ops.opsForZSet().remove(bucketKey(h), members);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 순위 집합이 생기기 전부터 쌓여 있던 조회수(task:view:count:*)로 전체 순위를 한 번 채웁니다.
+     * <p>
+     * 여러 파드 중 한 곳만 실행하도록 표시 키를 만료 시간과 함께 SET NX로 잡고, 기동을 늦추지 않도록 별도 스레드에서 SCAN 합니다.
+     * 다 채운 뒤에야 만료 없는 완료 표시로 바꾸므로, 채우던 파드가 중간에 죽으면 표시가 만료되어 다음에 기동하는 파드가 다시 채웁니다.
+     * 그 사이에 들어온 조회로 이미 점수가 올라간 Task는 ZADD GT로 더 큰 값만 남기므로 점수가 줄어들지 않습니다.
+     * (SCAN과 동시에 증가한 몇 건은 전체 순위에서 빠질 수 있습니다)
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedFromCounters() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(SEEDED_KEY, SEEDING, SEED_LEASE))) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("조회수 순위 초기화 여부를 확인하지 못했습니다.", e);
+            return;
+        }
+        Thread seeder = new Thread(this::seed, "view-ranking-seed");
+        seeder.setDaemon(true);
+        seeder.start();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void seed() {
+        ScanOptions options = ScanOptions.scanOptions().match(ViewCounter.KEY_PREFIX + "*").count(1000).build();
+        List<String> batch = new ArrayList<>(1000);
+        long seeded = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == 1000) {
+                    seeded += seedBatch(batch);
+                    batch.clear();
+                    redisTemplate.expire(SEEDED_KEY, SEED_LEASE);
+                }
+            }
+            seeded += seedBatch(batch);
+            redisTemplate.opsForValue().set(SEEDED_KEY, SEEDED);
+            log.info("기존 조회수로 조회수 순위를 채웠습니다. tasks={}", seeded);
+        } catch (RuntimeException e) {
+            // 다음 기동 때 다시 시도하도록 표시 키를 지웁니다.
+            log.warn("기존 조회수로 조회수 순위를 채우지 못했습니다.", e);
+            redisTemplate.delete(SEEDED_KEY);
+        }
+    }
+
+    private int seedBatch(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        byte[] rankKey = ALL_KEY.getBytes(StandardCharsets.UTF_8);
+        RedisZSetCommands.ZAddArgs greaterOnly = RedisZSetCommands.ZAddArgs.empty().gt();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < keys.size(); i++) {
+                String value = values == null ? null : values.get(i);
+                if (value != null) {
+                    byte[] member = keys.get(i).substring(ViewCounter.KEY_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+                    connection.zSetCommands().zAdd(rankKey, Double.parseDouble(value), member, greaterOnly);
+                }
+            }
+            return null;
+        });
+        return keys.size();
+    }
+
+    private static long hoursOf(Duration window) {
+        return Math.max(1L, (window.toMillis() + HOUR_MILLIS - 1) / HOUR_MILLIS);
+    }
+
+    private static long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+
+    private static String bucketKey(long hour) {
+        return KEY_PREFIX + "h:" + hour;
+    }
+}
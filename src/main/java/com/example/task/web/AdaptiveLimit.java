@@ -0,0 +1,173 @@
+package com.example.task.web;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 측정한 응답 시간에 따라 동시 처리 한도를 조절하는 동시성 제한입니다. (AIMD + 지연 시간 기울기)
+ * <p>
+ * 요청이 끝날 때마다 처리 시간을 모아 두었다가, {@code window}가 지나고 표본이 {@code minSamples}개 이상 모이면 한도를 다시 계산합니다.
+ * <ul>
+ *     <li>오류(5xx)가 있었으면: 한도 x {@code backoffRatio}</li>
+ *     <li>평균 처리 시간이 목표({@code targetLatency})를 넘었으면: 한도 x (목표 / 평균), 한 번에 최대 절반까지 줄입니다. (기울기)</li>
+ *     <li>그 외에 한도의 절반 이상을 실제로 사용했으면: 한도 + 1 (한도를 쓰지도 않는데 늘리지 않습니다)</li>
+ * </ul>
+ * 한도는 항상 {@code minLimit} ~ {@code maxLimit} 사이입니다.
+ * DB/Redis 커넥션을 기다리느라 처리 시간이 늘어나면 한도가 줄어들어, 넘치는 요청은 줄을 서지 않고 바로 거절됩니다.
+ * </p>
+ * <p>
+ * 같은 커넥션 풀을 쓰는 다른 한도를 {@link #addFollower}로 연결하면, 이 한도가 줄어들 때 같은 비율로 함께 줄입니다.
+ * (늘리는 것은 각자 자기 표본으로 판단합니다)
+ * </p>
+ */
+class AdaptiveLimit {
+
+    private static final long WAIT_POLL_NANOS = Duration.ofMillis(1).toNanos();
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final double backoffRatio;
+    private final long windowNanos;
+    private final int minSamples;
+
+    private volatile int limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 이 한도가 줄어들 때 함께 줄일 한도
+    private final List<AdaptiveLimit> followers = new CopyOnWriteArrayList<>();
+
+    // 현재 구간의 표본 (lock으로 보호)
+    private final ReentrantLock lock = new ReentrantLock();
+    private long windowStart = System.nanoTime();
+    private int samples;
+    private long latencySum;
+    private boolean dropped;
+    private int maxInFlight;
+
+    AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, Duration targetLatency,
+                  double backoffRatio, Duration window, int minSamples) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.max(this.minLimit, Math.min(initialLimit, this.maxLimit));
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.windowNanos = window.toNanos();
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * 한도 안이면 자리를 하나 차지합니다. 한도가 찼으면 maxWait 동안 자리가 나기를 기다립니다.
+     * @return 자리를 얻었으면 true (끝나면 반드시 {@link #release(long, boolean)}를 호출해야 합니다)
+     */
+    boolean tryAcquire(Duration maxWait) {
+        if (tryAcquire()) {
+            return true;
+        }
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (deadline - System.nanoTime() > 0) {
+            LockSupport.parkNanos(WAIT_POLL_NANOS);
+            if (tryAcquire()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 자리를 반납하고 처리 시간을 표본으로 기록합니다.
+     * @param latencyNanos 처리 시간
+     * @param failed       서버 오류(5xx)로 끝났는지 여부
+     */
+    void release(long latencyNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        int before;
+        int after;
+        lock.lock();
+        try {
+            samples++;
+            latencySum += latencyNanos;
+            dropped |= failed;
+            maxInFlight = Math.max(maxInFlight, current);
+
+            long now = System.nanoTime();
+            if (now - windowStart < windowNanos || samples < minSamples) {
+                return;
+            }
+            before = limit;
+            after = nextLimit(latencySum / samples);
+            limit = after;
+            windowStart = now;
+            samples = 0;
+            latencySum = 0;
+            dropped = false;
+            maxInFlight = 0;
+        } finally {
+            lock.unlock();
+        }
+        if (after < before) {
+            // 다른 한도의 lock은 자기 lock을 놓은 뒤에 잡습니다.
+            double ratio = (double) after / before;
+            for (AdaptiveLimit follower : followers) {
+                follower.shrink(ratio);
+            }
+        }
+    }
+
+    /**
+     * 이 한도가 줄어들 때 follower도 같은 비율로 줄이도록 연결합니다. (순환하지 않도록 연결해야 합니다)
+     */
+    void addFollower(AdaptiveLimit follower) {
+        followers.add(follower);
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    // --- Private Helper Methods ---
+
+    private void shrink(double ratio) {
+        lock.lock();
+        try {
+            limit = Math.max(minLimit, Math.min((int) (limit * ratio), maxLimit));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private int nextLimit(long averageLatencyNanos) {
+        int current = limit;
+        int next;
+        if (dropped) {
+            next = (int) (current * backoffRatio);
+        } else if (averageLatencyNanos > targetLatencyNanos) {
+            double gradient = Math.max(0.5, (double) targetLatencyNanos / averageLatencyNanos);
+            next = (int) (current * gradient);
+        } else if (maxInFlight * 2 >= current) {
+            next = current + 1;
+        } else {
+            next = current;
+        }
+        return Math.max(minLimit, Math.min(next, maxLimit));
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.task.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * API 요청의 동시 처리 수를 응답 시간에 맞춰 제한하고, 넘치는 요청은 바로 거절(load shedding)하는 필터입니다.
+ * <p>
+ * 요청이 몰리면 Tomcat 스레드가 DB/Redis 커넥션 풀을 기다리며 쌓이고, 모든 요청의 응답 시간이 함께 늘어납니다.
+ * 이 필터는 조회(GET/HEAD), 쓰기(그 외), 일괄 처리({@code batch-paths})에 각각 {@link AdaptiveLimit}을 두어,
+ * 처리 시간이 목표를 넘기 시작하면 한도를 줄이고 한도를 넘는 요청은 기다리게 하지 않고 {@code reject-status}(기본 503)와
+ * Retry-After로 바로 응답합니다. 한도 안의 요청은 줄을 서지 않으므로 목표 응답 시간 근처를 유지합니다.
+ * </p>
+ * <p>
+ * 일괄 처리는 요청 하나가 수천 건을 저장하므로 오래 걸리는 것이 정상입니다. 쓰기와 같은 한도를 쓰면 그 처리 시간 때문에
+ * 쓰기 한도가 줄어드므로, 자기 목표 시간({@code batch.target-latency})을 가진 별도 한도로 제한합니다.
+ * 세 한도는 같은 DB 커넥션 풀을 쓰므로, 일괄 처리 한도가 줄면 쓰기/조회 한도를, 쓰기 한도가 줄면 조회 한도를 같은 비율로 함께 줄입니다.
+ * </p>
+ * <p>
+ * 쓰기는 조회보다 우선합니다. 조회는 한도가 차면 바로 거절되고, 쓰기는 {@code write.max-wait} 동안 자리가 나기를 기다립니다.
+ * 스트리밍처럼 오래 걸리는 것이 정상인 요청({@code excluded-paths})은 제한하지 않습니다.
+ * </p>
+ * <p>
+ * 지표: {@code task.limiter.limit}(현재 한도), {@code task.limiter.inflight}(처리 중), {@code task.limiter.rejected}(거절 수),
+ * 모두 class 태그(read/write/batch)로 구분합니다.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final List<String> excludedPaths;
+    private final List<String> batchPaths;
+    private final int rejectStatus;
+    private final String retryAfterSeconds;
+    private final LimitClass read;
+    private final LimitClass write;
+    private final LimitClass batch;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${task.limiter.enabled:true}") boolean enabled,
+                                  @Value("${task.limiter.excluded-paths:/api/tasks/export,/api/tasks/changes}") List<String> excludedPaths,
+                                  @Value("${task.limiter.batch-paths:/api/tasks/batch}") List<String> batchPaths,
+                                  @Value("${task.limiter.reject-status:503}") int rejectStatus,
+                                  @Value("${task.limiter.retry-after:1s}") Duration retryAfter,
+                                  @Value("${task.limiter.target-latency:250ms}") Duration targetLatency,
+                                  @Value("${task.limiter.window:500ms}") Duration window,
+                                  @Value("${task.limiter.min-samples:20}") int minSamples,
+                                  @Value("${task.limiter.backoff-ratio:0.9}") double backoffRatio,
+                                  @Value("${task.limiter.read.initial-limit:50}") int readInitialLimit,
+                                  @Value("${task.limiter.read.min-limit:8}") int readMinLimit,
+                                  @Value("${task.limiter.read.max-limit:200}") int readMaxLimit,
+                                  @Value("${task.limiter.read.max-wait:0ms}") Duration readMaxWait,
+                                  @Value("${task.limiter.write.initial-limit:20}") int writeInitialLimit,
+                                  @Value("${task.limiter.write.min-limit:4}") int writeMinLimit,
+                                  @Value("${task.limiter.write.max-limit:100}") int writeMaxLimit,
+                                  @Value("${task.limiter.write.max-wait:50ms}") Duration writeMaxWait,
+                                  @Value("${task.limiter.batch.target-latency:10s}") Duration batchTargetLatency,
+                                  @Value("${task.limiter.batch.initial-limit:2}") int batchInitialLimit,
+                                  @Value("${task.limiter.batch.min-limit:1}") int batchMinLimit,
+                                  @Value("${task.limiter.batch.max-limit:4}") int batchMaxLimit,
+                                  @Value("${task.limiter.batch.min-samples:4}") int batchMinSamples) {
+        this.enabled = enabled;
+        this.excludedPaths = excludedPaths;
+        this.batchPaths = batchPaths;
+        this.rejectStatus = rejectStatus;
+        this.retryAfterSeconds = String.valueOf(Math.max(1L, retryAfter.toSeconds()));
+        this.read = new LimitClass("read", meterRegistry, readMaxWait, new AdaptiveLimit(
+                readInitialLimit, readMinLimit, readMaxLimit, targetLatency, backoffRatio, window, minSamples));
+        this.write = new LimitClass("write", meterRegistry, writeMaxWait, new AdaptiveLimit(
+                writeInitialLimit, writeMinLimit, writeMaxLimit, targetLatency, backoffRatio, window, minSamples));
+        this.batch = new LimitClass("batch", meterRegistry, Duration.ZERO, new AdaptiveLimit(
+                batchInitialLimit, batchMinLimit, batchMaxLimit, batchTargetLatency, backoffRatio, window, batchMinSamples));
+        batch.limit.addFollower(write.limit);
+        batch.limit.addFollower(read.limit);
+        write.limit.addFollower(read.limit);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        LimitClass limitClass = isBatch(request) ? batch : isRead(request) ? read : write;
+        if (!limitClass.limit.tryAcquire(limitClass.maxWait)) {
+            limitClass.rejected.increment();
+            reject(response);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limitClass.limit.release(System.nanoTime() - startedAt, failed);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith("/api/")) {
+            return true;
+        }
+        for (String excluded : excludedPaths) {
+            if (path.startsWith(excluded)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // --- Private Helper Methods ---
+
+    private boolean isBatch(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String batchPath : batchPaths) {
+            if (path.startsWith(batchPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method);
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(rejectStatus);
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        byte[] body = ("{\"status\":" + rejectStatus + ",\"detail\":\"요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도하세요.\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /** 조회/쓰기/일괄 처리 각각의 한도와 지표입니다. */
+    private static final class LimitClass {
+        private final AdaptiveLimit limit;
+        private final Duration maxWait;
+        private final Counter rejected;
+
+        private LimitClass(String name, MeterRegistry meterRegistry, Duration maxWait, AdaptiveLimit limit) {
+            this.limit = limit;
+            this.maxWait = maxWait;
+            this.rejected = Counter.builder("task.limiter.rejected")
+                    .description("동시 처리 한도를 넘어 거절한 요청 수")
+                    .tag("class", name)
+                    .register(meterRegistry);
+            Gauge.builder("task.limiter.limit", limit, AdaptiveLimit::getLimit)
+                    .description("현재 동시 처리 한도")
+                    .tag("class", name)
+                    .register(meterRegistry);
+            Gauge.builder("task.limiter.inflight", limit, AdaptiveLimit::getInFlight)
+                    .description("한도 안에서 처리 중인 요청 수")
+                    .tag("class", name)
+                    .register(meterRegistry);
+        }
+    }
+}
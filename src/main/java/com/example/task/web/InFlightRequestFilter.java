@@ -0,0 +1,53 @@
+package com.example.task.web;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 현재 처리 중인 API 요청 수를 {@code task.http.inflight} 게이지로 노출하는 필터입니다.
+ * <p>
+ * CPU 사용률은 요청이 몰린 뒤에야 올라가므로, HPA가 이 값(파드당 동시 처리 요청 수)을 기준으로
+ * 스케일링할 수 있도록 Prometheus 형식(/actuator/prometheus)으로 내보냅니다.
+ * 헬스 체크와 actuator 요청은 부하가 아니므로 세지 않습니다.
+ * </p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class InFlightRequestFilter extends OncePerRequestFilter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public InFlightRequestFilter(MeterRegistry meterRegistry) {
+        Gauge.builder("task.http.inflight", inFlight, AtomicInteger::get)
+                .description("현재 처리 중인 API 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        inFlight.incrementAndGet();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/");
+    }
+}
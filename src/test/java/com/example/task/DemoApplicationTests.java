@@ -1,10 +1,11 @@
 package com.example.task;
 
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
-class DemoApplicationTests {
+/**
+ * 애플리케이션 컨텍스트가 뜨는지 확인합니다. 외부 PostgreSQL/Redis 없이 실행되도록 인메모리 설정을 사용합니다.
+ */
+class DemoApplicationTests extends InMemoryInfrastructure {
 
 	@Test
 	void contextLoads() {
@@ -0,0 +1,46 @@
+package com.example.task;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * PostgreSQL과 Redis 없이 애플리케이션 컨텍스트를 띄우는 테스트의 공통 설정입니다.
+ * <p>
+ * 부하 테스트 하네스(LoadTestRunner)와 같이 H2(PostgreSQL 모드)와 프로세스 내 Redis(jedis-mock)를 사용합니다.
+ * 상속한 테스트들은 설정이 같으므로 컨텍스트 하나를 함께 씁니다. (테스트마다 새 Task를 만들어 서로 영향을 주지 않게 합니다)
+ * RETURNING을 쓰지 않는 경로(H2)를 거치므로 PostgreSQL 전용 SQL은 여기서 검증되지 않습니다.
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public abstract class InMemoryInfrastructure {
+
+    private static final RedisServer REDIS;
+
+    static {
+        try {
+            REDIS = RedisServer.newRedisServer().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void inMemoryProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url",
+                () -> "jdbc:h2:mem:test;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", REDIS::getBindPort);
+        // jedis-mock이 XREAD의 BLOCK 뒤 COUNT 순서를 처리하지 못하므로 변경 피드는 끕니다
+        registry.add("task.changes.enabled", () -> "false");
+        registry.add("task.limiter.enabled", () -> "false");
+    }
+}
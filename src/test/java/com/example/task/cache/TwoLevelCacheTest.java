@@ -0,0 +1,201 @@
+package com.example.task.cache;
+
+import com.example.task.MockRedis;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 2단 캐시의 single-flight, 로드 중 무효화, 파드 간 임대, stale-while-revalidate를 확인합니다.
+ * L2는 메모리 캐시로 대신하고, 임대만 jedis-mock을 사용합니다.
+ */
+class TwoLevelCacheTest {
+
+    private MockRedis redis;
+    private Cache l2;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        redis = MockRedis.start();
+        l2 = new ConcurrentMapCache("tasks");
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        executor.shutdownNow();
+        redis.close();
+    }
+
+    @Test
+    void concurrentMissesRunLoaderOnce() throws Exception {
+        TwoLevelCache cache = cache(null, false);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cache.get(1L, () -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "v1";
+        })));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> cache.get(1L, () -> {
+                calls.incrementAndGet();
+                return "other";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(l2.get(1L)).isNotNull().extracting(Cache.ValueWrapper::get).isEqualTo("v1");
+    }
+
+    @Test
+    void loaderFailureIsSharedAndNextMissRetries() throws Exception {
+        TwoLevelCache cache = cache(null, false);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Object> first = executor.submit(() -> cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            throw new IllegalStateException("db down");
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Object> waiter = executor.submit(() -> cache.get(1L, () -> "unused"));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(1L, () -> "v2")).isEqualTo("v2");
+    }
+
+    @Test
+    void valueLoadedDuringEvictIsReturnedButNotCached() throws Exception {
+        TwoLevelCache cache = cache(null, false);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> load = executor.submit(() -> cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            return "old";
+        }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.evict(1L);
+        release.countDown();
+
+        assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(1L, () -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    void waitsForOtherPodHoldingLease() throws Exception {
+        CacheLoadLease lease = lease(Duration.ofSeconds(2));
+        TwoLevelCache cache = cache(lease, false);
+        assertThat(lease.tryAcquire("tasks", "1")).isNotNull();
+        executor.submit(() -> {
+            Thread.sleep(200);
+            l2.put(1L, "from-other-pod");
+            return null;
+        });
+
+        AtomicInteger calls = new AtomicInteger();
+        Object value = cache.get(1L, () -> {
+            calls.incrementAndGet();
+            return "local";
+        });
+
+        assertThat(value).isEqualTo("from-other-pod");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void loadsItselfWhenLeaseHolderNeverFills() {
+        CacheLoadLease lease = lease(Duration.ofMillis(200));
+        TwoLevelCache cache = cache(lease, false);
+        assertThat(lease.tryAcquire("tasks", "1")).isNotNull();
+
+        assertThat(cache.get(1L, () -> "local")).isEqualTo("local");
+        assertThat(l2.get(1L)).isNotNull().extracting(Cache.ValueWrapper::get).isEqualTo("local");
+    }
+
+    @Test
+    void leaseIsReleasedAfterLoadAndOnlyByItsOwner() {
+        CacheLoadLease lease = lease(Duration.ofMillis(200));
+        TwoLevelCache cache = cache(lease, false);
+
+        cache.get(1L, () -> "v1");
+        String token = lease.tryAcquire("tasks", "1");
+        assertThat(token).isNotNull();
+        assertThat(lease.tryAcquire("tasks", "1")).isNull();
+
+        lease.release("tasks", "1", "someone-else");
+        assertThat(lease.tryAcquire("tasks", "1")).isNull();
+        lease.release("tasks", "1", token);
+        assertThat(lease.tryAcquire("tasks", "1")).isNotNull();
+    }
+
+    @Test
+    void invalidatedValueIsServedStaleWhileRefreshing() {
+        TwoLevelCache cache = cache(null, true);
+        cache.get(1L, () -> "v1");
+
+        cache.invalidateLocal("1");
+        l2.evict(1L);
+        AtomicInteger calls = new AtomicInteger();
+        Object value = cache.get(1L, () -> {
+            calls.incrementAndGet();
+            return "v2";
+        });
+
+        assertThat(value).isEqualTo("v1");
+        // 백그라운드 실행기가 호출한 쪽 스레드에서 바로 실행되므로 이미 다시 채워져 있습니다
+        assertThat(calls).hasValue(1);
+        assertThat(cache.get(1L)).isNotNull().extracting(Cache.ValueWrapper::get).isEqualTo("v2");
+    }
+
+    private TwoLevelCache cache(CacheLoadLease lease, boolean staleWhileRevalidate) {
+        return new TwoLevelCache("tasks",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                l2,
+                (cacheName, key) -> { },
+                staleWhileRevalidate ? Caffeine.newBuilder().maximumSize(100).<String, Cache.ValueWrapper>build() : null,
+                lease,
+                Runnable::run,
+                new SimpleMeterRegistry());
+    }
+
+    private CacheLoadLease lease(Duration waitTimeout) {
+        return new CacheLoadLease(redis.getTemplate(), Duration.ofSeconds(10), waitTimeout, Duration.ofMillis(20));
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.task.controller;
+
+import com.example.task.InMemoryInfrastructure;
+import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+import com.example.task.repository.TaskRepository;
+import com.example.task.repository.TaskWriteRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * PATCH/DELETE /api/tasks/{id}의 응답 코드와 본문, If-Match 검사를 확인합니다.
+ */
+class TaskControllerTest extends InMemoryInfrastructure {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void patchUpdatesOnlySentFieldsAndReturnsNewVersion() throws Exception {
+        Task task = saveTask();
+
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, etag(task))
+                        .content("{\"status\":\"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"task-" + task.getId() + "-" + (task.getVersion() + 1) + "\""))
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.title").value("title"))
+                .andExpect(jsonPath("$.description").value("desc"))
+                .andExpect(jsonPath("$.version").value(task.getVersion() + 1));
+    }
+
+    @Test
+    void patchWithNullClearsField() throws Exception {
+        Task task = saveTask();
+
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":null,\"assignee\":null}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.title").value("title"));
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getDescription, Task::getAssignee)
+                .containsExactly(null, null);
+    }
+
+    @Test
+    void patchWithStaleIfMatchReturnsPreconditionFailed() throws Exception {
+        Task task = saveTask();
+        String staleETag = etag(task);
+        taskRepository.patch(task.getId(), Map.of(TaskWriteRepository.ASSIGNEE, "lee"), null);
+
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_MATCH, staleETag)
+                        .content("{\"title\":\"x\"}"))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(taskRepository.findById(task.getId())).get().extracting(Task::getTitle).isEqualTo("title");
+    }
+
+    @Test
+    void patchOfMissingTaskReturnsNotFound() throws Exception {
+        mockMvc.perform(patch("/api/tasks/{id}", Long.MAX_VALUE)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"x\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void patchWithoutFieldsOrWithNullStatusIsBadRequest() throws Exception {
+        Task task = saveTask();
+
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/tasks/{id}", task.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":null}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deleteWithMatchingIfMatchReturnsNoContent() throws Exception {
+        Task task = saveTask();
+
+        mockMvc.perform(delete("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_MATCH, etag(task)))
+                .andExpect(status().isNoContent());
+        assertThat(taskRepository.existsById(task.getId())).isFalse();
+    }
+
+    @Test
+    void deleteWithStaleIfMatchReturnsPreconditionFailed() throws Exception {
+        Task task = saveTask();
+
+        mockMvc.perform(delete("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_MATCH, "W/\"task-" + task.getId() + "-" + (task.getVersion() + 1) + "\""))
+                .andExpect(status().isPreconditionFailed());
+        assertThat(taskRepository.existsById(task.getId())).isTrue();
+    }
+
+    @Test
+    void malformedIfMatchIsBadRequest() throws Exception {
+        Task task = saveTask();
+
+        mockMvc.perform(delete("/api/tasks/{id}", task.getId()).header(HttpHeaders.IF_MATCH, "\"something-else\""))
+                .andExpect(status().isBadRequest());
+        assertThat(taskRepository.existsById(task.getId())).isTrue();
+    }
+
+    @Test
+    void deleteOfMissingTaskReturnsNotFound() throws Exception {
+        mockMvc.perform(delete("/api/tasks/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    private static String etag(Task task) {
+        return "W/\"task-" + task.getId() + "-" + task.getVersion() + "\"";
+    }
+
+    private Task saveTask() {
+        Task task = new Task();
+        task.setTitle("title");
+        task.setDescription("desc");
+        task.setAssignee("kim");
+        task.setStatus(TaskStatus.TODO);
+        return taskRepository.saveAndFlush(task);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.task.repository;
+
+import com.example.task.InMemoryInfrastructure;
+import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectRetrievalFailureException;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 조건부 UPDATE/DELETE의 수정 전/후 값과 실패 원인 구분, 묶음 ID 할당을 확인합니다.
+ * 리포지토리 프록시가 예외를 Spring의 DataAccessException으로 바꾸므로, Task 없음은 원인(cause)으로 확인합니다.
+ */
+class TaskWriteRepositoryTest extends InMemoryInfrastructure {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void patchReturnsBeforeAndAfterAndBumpsVersion() {
+        Task task = saveTask("before", "desc");
+        Map<String, Object> columns = new LinkedHashMap<>();
+        columns.put(TaskWriteRepository.TITLE, "after");
+        columns.put(TaskWriteRepository.STATUS, TaskStatus.DONE);
+
+        TaskWriteRepository.Updated updated = taskRepository.patch(task.getId(), columns, task.getVersion());
+
+        assertThat(updated.getBefore().getTitle()).isEqualTo("before");
+        assertThat(updated.getBefore().getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(updated.getBefore().getVersion()).isEqualTo(task.getVersion());
+        assertThat(updated.getAfter().getTitle()).isEqualTo("after");
+        assertThat(updated.getAfter().getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(updated.getAfter().getDescription()).isEqualTo("desc");
+        assertThat(updated.getAfter().getVersion()).isEqualTo(task.getVersion() + 1);
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getTitle, Task::getVersion)
+                .containsExactly("after", task.getVersion() + 1);
+    }
+
+    @Test
+    void patchWithNullValueClearsColumn() {
+        Task task = saveTask("title", "desc");
+        Map<String, Object> columns = new HashMap<>();
+        columns.put(TaskWriteRepository.DESCRIPTION, null);
+
+        TaskWriteRepository.Updated updated = taskRepository.patch(task.getId(), columns, null);
+
+        assertThat(updated.getBefore().getDescription()).isEqualTo("desc");
+        assertThat(updated.getAfter().getDescription()).isNull();
+        assertThat(taskRepository.findById(task.getId())).get().extracting(Task::getDescription).isNull();
+    }
+
+    @Test
+    void patchWithStaleVersionIsRejectedAndLeavesRowUnchanged() {
+        Task task = saveTask("title", null);
+
+        assertThatThrownBy(() -> taskRepository.patch(task.getId(), Map.of(TaskWriteRepository.TITLE, "x"), task.getVersion() + 1))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(taskRepository.findById(task.getId())).get()
+                .extracting(Task::getTitle, Task::getVersion)
+                .containsExactly("title", task.getVersion());
+    }
+
+    @Test
+    void patchOfMissingRowThrowsNotFound() {
+        assertThatThrownBy(() -> taskRepository.patch(Long.MAX_VALUE, Map.of(TaskWriteRepository.TITLE, "x"), null))
+                .isInstanceOf(ObjectRetrievalFailureException.class)
+                .hasCauseInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void patchRejectsUnknownColumn() {
+        Task task = saveTask("title", null);
+
+        assertThatThrownBy(() -> taskRepository.patch(task.getId(), Map.of("version", 0L), null))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deleteReturningReturnsDeletedRow() {
+        Task task = saveTask("gone", "desc");
+
+        Task deleted = taskRepository.deleteReturning(task.getId(), task.getVersion());
+
+        assertThat(deleted.getId()).isEqualTo(task.getId());
+        assertThat(deleted.getTitle()).isEqualTo("gone");
+        assertThat(deleted.getVersion()).isEqualTo(task.getVersion());
+        assertThat(taskRepository.existsById(task.getId())).isFalse();
+    }
+
+    @Test
+    void deleteWithStaleVersionIsRejectedAndKeepsRow() {
+        Task task = saveTask("kept", null);
+
+        assertThatThrownBy(() -> taskRepository.deleteReturning(task.getId(), task.getVersion() + 1))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(taskRepository.existsById(task.getId())).isTrue();
+    }
+
+    @Test
+    void deleteOfMissingRowThrowsNotFound() {
+        assertThatThrownBy(() -> taskRepository.deleteReturning(Long.MAX_VALUE, null))
+                .isInstanceOf(ObjectRetrievalFailureException.class)
+                .hasCauseInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    void assignIdsReservesAscendingIdsThatSaveKeeps() {
+        Task before = saveTask("before", null);
+        List<Task> tasks = List.of(newTask("a"), newTask("b"), newTask("c"));
+
+        taskRepository.assignIds(tasks);
+        List<Long> assigned = tasks.stream().map(Task::getId).toList();
+        taskRepository.saveAllAndFlush(tasks);
+        Task after = saveTask("after", null);
+
+        assertThat(assigned).isSorted().doesNotHaveDuplicates().allMatch(id -> id > before.getId());
+        assertThat(tasks).extracting(Task::getId).containsExactlyElementsOf(assigned);
+        assertThat(taskRepository.findAllById(assigned)).extracting(Task::getTitle).containsExactlyInAnyOrder("a", "b", "c");
+        assertThat(after.getId()).isGreaterThan(assigned.get(2));
+    }
+
+    private Task saveTask(String title, String description) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(TaskStatus.TODO);
+        return taskRepository.saveAndFlush(task);
+    }
+
+    private static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.TODO);
+        return task;
+    }
+}
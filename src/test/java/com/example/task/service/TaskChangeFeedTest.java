@@ -0,0 +1,185 @@
+package com.example.task.service;
+
+import com.example.task.MockRedis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Last-Event-ID로 다시 연결할 때 재전송과 그 사이 도착한 실시간 이벤트가 중복/누락 없이 순서대로 나가는지 확인합니다.
+ * jedis-mock은 XREAD BLOCK을 지원하지 않으므로 읽기 스레드는 띄우지 않고, 스트림을 읽는 도중에 실시간 이벤트를 직접 넣습니다.
+ */
+class TaskChangeFeedTest {
+
+    private static final String STREAM_KEY = "task:changes";
+    private static final Pattern SSE_FIELD = Pattern.compile("^(id|event):(.*)$", Pattern.MULTILINE);
+
+    private MockRedis redis;
+    private TaskChangeFeed feed;
+    // 재전송이 스트림을 읽을 때(요청 스레드) 함께 도착시킬 실시간 이벤트
+    private final List<MapRecord<String, Object, Object>> liveDuringReplay = new ArrayList<>();
+    private boolean includeHeartbeat;
+
+    @BeforeEach
+    void setUp() {
+        redis = MockRedis.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException, InterruptedException {
+        if (feed != null) {
+            feed.shutdown();
+        }
+        redis.close();
+    }
+
+    @Test
+    void replaysMissedEventsThenLiveEventsInOrderWithoutDuplicates() throws Exception {
+        feed = feed(100);
+        append("1-0", "created");
+        append("2-0", "updated");
+        append("3-0", "updated");
+        // 3-0은 재전송과 실시간으로 두 번 도착하지만 한 번만 보냅니다
+        liveDuringReplay.add(record("3-0", "updated"));
+        liveDuringReplay.add(record("4-0", "deleted"));
+        includeHeartbeat = true;
+
+        String body = stream("1-0", "4-0");
+
+        assertThat(fields(body)).containsExactly(
+                "id:2-0", "event:updated",
+                "id:3-0", "event:updated",
+                "id:4-0", "event:deleted");
+    }
+
+    @Test
+    void sendsResetWhenLiveEventsOverflowDuringReplay() throws Exception {
+        feed = feed(2);
+        append("1-0", "created");
+        append("2-0", "updated");
+        liveDuringReplay.add(record("3-0", "updated"));
+        liveDuringReplay.add(record("4-0", "updated"));
+        liveDuringReplay.add(record("5-0", "deleted"));
+
+        String body = stream("1-0", "5-0");
+
+        assertThat(fields(body)).containsExactly(
+                "id:2-0", "event:updated",
+                "event:reset",
+                "id:5-0", "event:deleted");
+    }
+
+    @Test
+    void sendsResetThenLiveEventsWhenLastEventIdIsGone() throws Exception {
+        feed = feed(100);
+        append("5-0", "created");
+        liveDuringReplay.add(record("6-0", "updated"));
+
+        String body = stream("1-0", "6-0");
+
+        assertThat(fields(body)).containsExactly(
+                "event:reset",
+                "id:6-0", "event:updated");
+    }
+
+    /** Last-Event-ID로 구독하고, lastId가 보일 때까지 받은 본문을 돌려줍니다. */
+    private String stream(String lastEventId, String lastId) throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ChangesController(feed)).build();
+        MvcResult result = mockMvc.perform(get("/changes").header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains("id:" + lastId) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        return body;
+    }
+
+    @SuppressWarnings("unchecked")
+    private TaskChangeFeed feed(int maxReplay) {
+        StringRedisTemplate template = spy(redis.getTemplate());
+        StreamOperations<String, Object, Object> streamOps = spy(redis.getTemplate().opsForStream());
+        doReturn(streamOps).when(template).opsForStream();
+        TaskChangeFeed[] self = new TaskChangeFeed[1];
+        doAnswer(invocation -> {
+            Object records = invocation.callRealMethod();
+            // 스트림을 읽은 뒤, 재전송을 보내기 전에 읽기 스레드가 새 이벤트를 받은 상황
+            if (includeHeartbeat) {
+                self[0].heartbeat();
+            }
+            liveDuringReplay.forEach(self[0]::dispatch);
+            return records;
+        }).when(streamOps).range(anyString(), any(Range.class), any(Limit.class));
+        self[0] = new TaskChangeFeed(template, new ObjectMapper(), new SimpleMeterRegistry(), true,
+                1000, maxReplay, 10, 256, 2, Duration.ofMinutes(1), Duration.ofSeconds(1));
+        return self[0];
+    }
+
+    private void append(String id, String type) {
+        redis.getTemplate().opsForStream().add(record(id, type));
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, String type) {
+        return StreamRecords.<String, Object, Object>mapBacked(Map.of("type", type, "id", "1", "data", "{}"))
+                .withStreamKey(STREAM_KEY)
+                .withId(RecordId.of(id));
+    }
+
+    private static List<String> fields(String body) {
+        List<String> fields = new ArrayList<>();
+        Matcher matcher = SSE_FIELD.matcher(body);
+        while (matcher.find()) {
+            fields.add(matcher.group(1) + ":" + matcher.group(2));
+        }
+        return fields;
+    }
+
+    @RestController
+    static class ChangesController {
+        private final TaskChangeFeed feed;
+
+        ChangesController(TaskChangeFeed feed) {
+            this.feed = feed;
+        }
+
+        @GetMapping("/changes")
+        SseEmitter changes(@RequestHeader("Last-Event-ID") String lastEventId) {
+            return feed.subscribe(lastEventId);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.task.service;
+
+import com.example.task.MockRedis;
+import com.example.task.dto.TaskCreateStatusDto;
+import com.example.task.dto.TaskCreateStatusDto.Status;
+import com.example.task.dto.TaskRequestDto;
+import com.example.task.entity.Task;
+import com.example.task.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 비동기 생성 대기열의 묶음 저장과 실패 처리(한 건씩 다시 저장, 커밋 중 오류, DB 연결 실패), 종료 시 넘기기를 확인합니다.
+ * 쓰기 스레드는 시작하지 않고 {@link TaskCreateQueue#flush(List)}를 직접 호출합니다.
+ */
+class TaskCreateQueueTest {
+
+    private MockRedis redis;
+    private TaskRepository taskRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private FakeTransactionManager transactionManager;
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        redis = MockRedis.start();
+        taskRepository = mock(TaskRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        transactionManager = new FakeTransactionManager();
+        when(taskRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(ids.incrementAndGet()));
+            return tasks;
+        });
+        when(taskRepository.saveAndFlush(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            if ("bad".equals(task.getTitle())) {
+                throw new DataIntegrityViolationException("bad title");
+            }
+            task.setId(ids.incrementAndGet());
+            return task;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        redis.close();
+    }
+
+    @Test
+    void flushSavesBatchInOneTransactionAndRecordsCreated() {
+        TaskCreateQueue queue = queue(10);
+        List<TaskCreateQueue.PendingCreate> batch = List.of(pending("t1", "a"), pending("t2", "b"));
+
+        assertThat(queue.flush(batch)).isTrue();
+
+        assertThat(queue.getStatus("t1")).extracting(TaskCreateStatusDto::getStatus, TaskCreateStatusDto::getTaskId)
+                .containsExactly(Status.CREATED, 1L);
+        assertThat(queue.getStatus("t2")).extracting(TaskCreateStatusDto::getStatus, TaskCreateStatusDto::getTaskId)
+                .containsExactly(Status.CREATED, 2L);
+        assertThat(transactionManager.commits).isEqualTo(1);
+        verify(eventPublisher, times(1)).publishEvent(any(TaskChangedEvent.class));
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void failedInsertRetriesItemByItemAndFailsOnlyTheBadOne() {
+        TaskCreateQueue queue = queue(10);
+        when(taskRepository.saveAllAndFlush(anyList())).thenThrow(new DataIntegrityViolationException("batch failed"));
+
+        assertThat(queue.flush(List.of(pending("t1", "a"), pending("t2", "bad"), pending("t3", "c")))).isTrue();
+
+        assertThat(queue.getStatus("t1").getStatus()).isEqualTo(Status.CREATED);
+        assertThat(queue.getStatus("t2")).extracting(TaskCreateStatusDto::getStatus, TaskCreateStatusDto::getMessage)
+                .containsExactly(Status.FAILED, "bad title");
+        assertThat(queue.getStatus("t3").getStatus()).isEqualTo(Status.CREATED);
+        verify(taskRepository, times(3)).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void commitFailureIsRecordedAsUnknownWithoutRetry() {
+        TaskCreateQueue queue = queue(10);
+        transactionManager.failCommit = true;
+
+        assertThat(queue.flush(List.of(pending("t1", "a"), pending("t2", "b")))).isTrue();
+
+        assertThat(queue.getStatus("t1").getStatus()).isEqualTo(Status.UNKNOWN);
+        assertThat(queue.getStatus("t2").getStatus()).isEqualTo(Status.UNKNOWN);
+        verify(taskRepository, never()).saveAndFlush(any(Task.class));
+    }
+
+    @Test
+    void unreachableDatabaseKeepsBatchForRetry() {
+        TaskCreateQueue queue = queue(10);
+        TaskCreateStatusDto accepted = queue.enqueue(request("a"));
+        transactionManager.failBegin = true;
+
+        assertThat(queue.flush(List.of(new TaskCreateQueue.PendingCreate(accepted.getTrackingId(), request("a"))))).isFalse();
+
+        assertThat(queue.getStatus(accepted.getTrackingId()).getStatus()).isEqualTo(Status.PENDING);
+        verify(taskRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void fullQueueRejectsAndForgetsStatus() {
+        TaskCreateQueue queue = queue(1);
+        assertThat(queue.enqueue(request("a")).getStatus()).isEqualTo(Status.PENDING);
+
+        assertThatThrownBy(() -> queue.enqueue(request("b"))).isInstanceOf(TaskCreateQueueFullException.class);
+        assertThat(redis.getTemplate().keys("task:create:*")).hasSize(1);
+    }
+
+    @Test
+    void stopSpillsQueuedRequestsAndAnotherInstanceRecoversThem() {
+        TaskCreateQueue stopping = queue(10);
+        stopping.enqueue(request("a"));
+        stopping.enqueue(request("b"));
+
+        stopping.stop();
+
+        assertThat(stopping.enqueue(request("c"))).isNull();
+        assertThat(redis.getTemplate().opsForList().size("task:create:spill")).isEqualTo(2);
+        queue(10).recoverSpilled();
+        assertThat(redis.getTemplate().opsForList().size("task:create:spill")).isZero();
+    }
+
+    private TaskCreateQueue queue(int capacity) {
+        return new TaskCreateQueue(redis.getTemplate(), new ObjectMapper(), taskRepository, mock(TaskCache.class),
+                transactionManager, eventPublisher, new SimpleMeterRegistry(), "always", capacity, 100,
+                Duration.ofMillis(5), Duration.ZERO, Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ZERO);
+    }
+
+    private TaskCreateQueue.PendingCreate pending(String trackingId, String title) {
+        redis.getTemplate().opsForValue().set("task:create:" + trackingId, Status.PENDING.name());
+        return new TaskCreateQueue.PendingCreate(trackingId, request(title));
+    }
+
+    private static TaskRequestDto request(String title) {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setTitle(title);
+        return request;
+    }
+
+    /** 시작/커밋 실패를 흉내 내는 트랜잭션 관리자 */
+    private static final class FakeTransactionManager extends AbstractPlatformTransactionManager {
+        private boolean failBegin;
+        private boolean failCommit;
+        private int commits;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            if (failBegin) {
+                throw new CannotCreateTransactionException("connection refused");
+            }
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (failCommit) {
+                throw new TransactionSystemException("connection reset during commit");
+            }
+            commits++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.task.service;
+
+import com.example.task.MockRedis;
+import com.example.task.cache.JdkCacheValueCodec;
+import com.example.task.entity.Task;
+import com.example.task.entity.TaskStatus;
+import com.example.task.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 목록 인덱스의 Lua 스크립트(추가/교체/삭제, 다시 만들기, 읽기)를 jedis-mock에서 확인합니다.
+ */
+class TaskListIndexTest {
+
+    private static final int WINDOW = 3;
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private MockRedis redis;
+    private TaskRepository taskRepository;
+    private TaskListIndex index;
+
+    @BeforeEach
+    void setUp() {
+        redis = MockRedis.start();
+        taskRepository = mock(TaskRepository.class);
+        index = new TaskListIndex(redis.getTemplate(), taskRepository, new JdkCacheValueCodec(getClass().getClassLoader()),
+                new SimpleMeterRegistry(), true, WINDOW, Duration.ofMinutes(10), Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        redis.close();
+    }
+
+    @Test
+    void firstReadRebuildsFromDatabaseAndLaterReadsHitIndex() {
+        givenNewest(task(5, 0), task(4, 0), task(3, 0), task(2, 0));
+
+        assertThat(ids(index.findPage(null, 2))).containsExactly(5L, 4L);
+        assertThat(ids(index.findPage(null, 3))).containsExactly(5L, 4L, 3L);
+        assertThat(ids(index.findPage(5L, 2))).containsExactly(4L, 3L);
+        verify(taskRepository, times(1)).findPage(isNull(), isNull(), isNull(), isNull(), anyInt());
+    }
+
+    @Test
+    void pageBelowFloorFallsBackToDatabase() {
+        givenNewest(task(5, 0), task(4, 0), task(3, 0), task(2, 0));
+        index.findPage(null, 1);
+
+        // floor(3)보다 오래된 Task가 필요한 페이지
+        assertThat(index.findPage(4L, 2)).isNull();
+    }
+
+    @Test
+    void createdTaskIsAddedAndOldestIsEvictedBeyondWindow() {
+        givenNewest(task(3, 0), task(2, 0), task(1, 0));
+        index.findPage(null, 1);
+
+        index.onTaskChanged(TaskChangedEvent.created(task(4, 0)));
+
+        assertThat(ids(index.findPage(null, 3))).containsExactly(4L, 3L, 2L);
+        // 1은 창 밖으로 밀려났으므로 그 아래 페이지는 DB에서 읽습니다
+        assertThat(index.findPage(2L, 1)).isNull();
+    }
+
+    @Test
+    void updateReplacesValueButOlderUpdateIsIgnored() {
+        givenNewest(task(2, 0), task(1, 0));
+        index.findPage(null, 1);
+
+        Task newer = task(2, 2);
+        newer.setTitle("newer");
+        Task older = task(2, 1);
+        older.setTitle("older");
+        index.onTaskChanged(TaskChangedEvent.updated(task(2, 0), newer));
+        index.onTaskChanged(TaskChangedEvent.updated(task(2, 0), older));
+
+        assertThat(index.findPage(null, 1)).singleElement().extracting(Task::getTitle).isEqualTo("newer");
+    }
+
+    @Test
+    void updateOrderFollowsVersionNotPodClock() {
+        givenNewest(task(2, 0), task(1, 0));
+        index.findPage(null, 1);
+
+        // 시계가 늦은 파드가 나중에 수정한 경우: updatedAt은 더 이르지만 version이 더 큽니다
+        Task later = task(2, 2);
+        later.setTitle("later");
+        later.setUpdatedAt(T0.plusSeconds(1));
+        Task earlier = task(2, 1);
+        earlier.setTitle("earlier");
+        earlier.setUpdatedAt(T0.plusSeconds(5));
+        index.onTaskChanged(TaskChangedEvent.updated(task(2, 0), later));
+        index.onTaskChanged(TaskChangedEvent.updated(task(2, 0), earlier));
+
+        assertThat(index.findPage(null, 1)).singleElement().extracting(Task::getTitle).isEqualTo("later");
+    }
+
+    @Test
+    void deletedTaskIsRemovedAndLateUpdateDoesNotRevive() {
+        givenNewest(task(2, 0), task(1, 0));
+        index.findPage(null, 1);
+
+        index.onTaskChanged(TaskChangedEvent.deleted(task(2, 0)));
+        index.onTaskChanged(TaskChangedEvent.updated(task(2, 0), task(2, 1)));
+
+        assertThat(ids(index.findPage(null, 2))).containsExactly(1L);
+    }
+
+    @Test
+    void changesDuringRebuildAreReplayedAfterIt() {
+        List<Task> newest = List.of(task(2, 0), task(1, 0));
+        when(taskRepository.findPage(isNull(), isNull(), isNull(), isNull(), anyInt())).thenAnswer(invocation -> {
+            // DB를 읽은 뒤 인덱스를 쓰기 전에 커밋된 변경
+            index.onTaskChanged(TaskChangedEvent.created(task(3, 0)));
+            index.onTaskChanged(TaskChangedEvent.deleted(task(1, 0)));
+            return newest;
+        });
+
+        assertThat(ids(index.findPage(null, 2))).containsExactly(2L, 1L);
+        assertThat(ids(index.findPage(null, 3))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void everyChangeBumpsVersionEvenWithoutIndex() {
+        String before = index.getVersionTag();
+        String epoch = before.substring(0, before.lastIndexOf('-'));
+
+        index.onTaskChanged(TaskChangedEvent.created(task(1, 0)));
+        index.onTaskChanged(TaskChangedEvent.deleted(task(1, 0)));
+
+        assertThat(before).isEqualTo(epoch + "-0");
+        assertThat(index.getVersionTag()).isEqualTo(epoch + "-2");
+    }
+
+    @Test
+    void counterRestartedAfterRedisLossGetsNewEpoch() {
+        index.onTaskChanged(TaskChangedEvent.created(task(1, 0)));
+        String before = index.getVersionTag();
+
+        redis.getTemplate().delete(TaskListIndex.VERSION_KEY);
+        index.onTaskChanged(TaskChangedEvent.created(task(2, 0)));
+
+        String after = index.getVersionTag();
+        assertThat(after).endsWith("-1").isNotEqualTo(before);
+    }
+
+    private void givenNewest(Task... tasks) {
+        when(taskRepository.findPage(isNull(), isNull(), isNull(), isNull(), anyInt()))
+                .thenAnswer(invocation -> {
+                    int limit = invocation.getArgument(4);
+                    return List.of(tasks).subList(0, Math.min(limit, tasks.length));
+                });
+    }
+
+    private static Task task(long id, long version) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("task-" + id);
+        task.setStatus(TaskStatus.TODO);
+        task.setCreatedAt(T0);
+        task.setUpdatedAt(T0);
+        task.setVersion(version);
+        return task;
+    }
+
+    private static List<Long> ids(List<Task> tasks) {
+        assertThat(tasks).isNotNull();
+        List<Long> ids = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> ids.add(task.getId()));
+        return ids;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.task.web;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시성 한도의 자리 관리와 한도 조절(AIMD, 기울기, 함께 줄이기)을 확인합니다.
+ * window를 0으로 두어 표본이 minSamples개 모일 때마다 한도를 다시 계산합니다.
+ */
+class AdaptiveLimitTest {
+
+    private static final Duration TARGET = Duration.ofMillis(100);
+
+    @Test
+    void rejectsBeyondLimitUntilReleased() {
+        AdaptiveLimit limit = limit(2, 1, 10, 1000);
+
+        assertThat(limit.tryAcquire(Duration.ZERO)).isTrue();
+        assertThat(limit.tryAcquire(Duration.ZERO)).isTrue();
+        assertThat(limit.tryAcquire(Duration.ZERO)).isFalse();
+
+        limit.release(millis(10), false);
+        assertThat(limit.getInFlight()).isEqualTo(1);
+        assertThat(limit.tryAcquire(Duration.ZERO)).isTrue();
+    }
+
+    @Test
+    void waitsUpToMaxWaitForFreeSlot() throws Exception {
+        AdaptiveLimit limit = limit(1, 1, 10, 1000);
+        assertThat(limit.tryAcquire(Duration.ZERO)).isTrue();
+
+        CompletableFuture.runAsync(() -> limit.release(millis(10), false),
+                CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+
+        assertThat(limit.tryAcquire(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void growsByOneWhenFastAndUsed() {
+        AdaptiveLimit limit = limit(4, 1, 10, 2);
+
+        runWindow(limit, 2, millis(10), false);
+
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void doesNotGrowWhenMostlyIdle() {
+        AdaptiveLimit limit = limit(10, 1, 20, 2);
+
+        runWindow(limit, 1, millis(10), false);
+        runWindow(limit, 1, millis(10), false);
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shrinksByLatencyGradientAtMostHalf() {
+        AdaptiveLimit limit = limit(10, 1, 20, 2);
+
+        runWindow(limit, 2, millis(125), false);
+        assertThat(limit.getLimit()).isEqualTo(8);
+
+        runWindow(limit, 2, millis(1000), false);
+        assertThat(limit.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void backsOffOnServerErrorAndStaysWithinBounds() {
+        AdaptiveLimit limit = limit(4, 2, 5, 1);
+
+        runWindow(limit, 1, millis(10), true);
+        assertThat(limit.getLimit()).isEqualTo(2);
+        runWindow(limit, 1, millis(10), true);
+        assertThat(limit.getLimit()).isEqualTo(2);
+
+        for (int i = 0; i < 10; i++) {
+            runWindow(limit, limit.getLimit(), millis(10), false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void followerShrinksWithLeaderButNotTheOtherWay() {
+        AdaptiveLimit leader = limit(10, 1, 20, 2);
+        AdaptiveLimit follower = limit(20, 2, 40, 2);
+        leader.addFollower(follower);
+
+        runWindow(leader, 2, millis(200), false);
+        assertThat(leader.getLimit()).isEqualTo(5);
+        assertThat(follower.getLimit()).isEqualTo(10);
+
+        runWindow(follower, 2, millis(1000), false);
+        assertThat(follower.getLimit()).isEqualTo(5);
+        assertThat(leader.getLimit()).isEqualTo(5);
+
+        // 늘리는 것은 함께 하지 않습니다
+        runWindow(leader, 3, millis(10), false);
+        assertThat(leader.getLimit()).isEqualTo(6);
+        assertThat(follower.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void followerNeverDropsBelowItsMinimum() {
+        AdaptiveLimit leader = limit(10, 1, 20, 1);
+        AdaptiveLimit follower = limit(4, 3, 40, 1);
+        leader.addFollower(follower);
+
+        runWindow(leader, 1, millis(10), true);
+
+        assertThat(leader.getLimit()).isEqualTo(5);
+        assertThat(follower.getLimit()).isEqualTo(3);
+    }
+
+    /** concurrent개의 자리를 동시에 차지한 뒤 모두 같은 처리 시간으로 반납합니다. */
+    private static void runWindow(AdaptiveLimit limit, int concurrent, long latencyNanos, boolean failed) {
+        for (int i = 0; i < concurrent; i++) {
+            assertThat(limit.tryAcquire(Duration.ZERO)).isTrue();
+        }
+        for (int i = 0; i < concurrent; i++) {
+            limit.release(latencyNanos, failed);
+        }
+    }
+
+    private static AdaptiveLimit limit(int initial, int min, int max, int minSamples) {
+        return new AdaptiveLimit(initial, min, max, TARGET, 0.5, Duration.ZERO, minSamples);
+    }
+
+    private static long millis(long millis) {
+        return Duration.ofMillis(millis).toNanos();
+    }
+}
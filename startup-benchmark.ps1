@@ -0,0 +1,85 @@
+#기존 이미지 vs 빠른 기동 이미지(AOT + CDS) 기동 시간 비교 스크립트
+#컨테이너를 띄운 시점부터 /health, /api/tasks가 처음 200으로 응답할 때까지의 시간과 그 시점의 메모리 사용량을 잽니다.
+#사용법: .\startup-benchmark.ps1            (이미지가 이미 있을 때)
+#        .\startup-benchmark.ps1 -Build     (두 이미지를 먼저 빌드)
+#        .\startup-benchmark.ps1 -Runs 10
+
+param(
+    [int]$Runs = 5,
+    [switch]$Build
+)
+
+$images = @(
+    @{ Name = "plain"; Image = "task-api:v1";      Dockerfile = "Dockerfile" },
+    @{ Name = "fast";  Image = "task-api:v1-fast"; Dockerfile = "Dockerfile.fast" }
+)
+$port = 18080
+$timeoutSeconds = 120
+
+if ($Build) {
+    foreach ($image in $images) {
+        docker build -f $image.Dockerfile -t $image.Image .
+    }
+}
+
+# docker-compose의 PostgreSQL/Redis를 띄우고, 앱 컨테이너를 같은 네트워크에 붙입니다.
+docker compose up -d postgres redis
+$postgresId = docker compose ps -q postgres
+$network = docker inspect -f '{{range $k, $v := .NetworkSettings.Networks}}{{$k}}{{end}}' $postgresId
+Start-Sleep -Seconds 5
+
+function Wait-FirstSuccess([string]$url, [System.Diagnostics.Stopwatch]$watch) {
+    while ($watch.Elapsed.TotalSeconds -lt $timeoutSeconds) {
+        try {
+            $response = Invoke-WebRequest -Uri $url -UseBasicParsing -TimeoutSec 2
+            if ($response.StatusCode -eq 200) {
+                return $watch.Elapsed.TotalMilliseconds
+            }
+        } catch {
+            # 아직 기동 중입니다.
+        }
+        Start-Sleep -Milliseconds 100
+    }
+    return $null
+}
+
+$rows = foreach ($image in $images) {
+    for ($run = 1; $run -le $Runs; $run++) {
+        Write-Host "=== $($image.Name) #$run ===" -ForegroundColor Cyan
+        # k8s 배포와 같은 CPU/메모리 제한으로 실행합니다.
+        $watch = [System.Diagnostics.Stopwatch]::StartNew()
+        $container = docker run -d --rm --network $network -p "${port}:8080" --cpus 0.5 --memory 512m `
+            -e "SPRING_DATASOURCE_URL=jdbc:postgresql://postgres:5432/taskdb?reWriteBatchedInserts=true" `
+            -e SPRING_DATASOURCE_USERNAME=taskuser `
+            -e SPRING_DATASOURCE_PASSWORD=taskpass `
+            -e SPRING_DATA_REDIS_HOST=redis `
+            $image.Image
+
+        $health = Wait-FirstSuccess "http://localhost:$port/health" $watch
+        $tasks = Wait-FirstSuccess "http://localhost:$port/api/tasks?size=20" $watch
+        $memory = (docker stats --no-stream --format "{{.MemUsage}}" $container) -split " / " | Select-Object -First 1
+        docker stop $container | Out-Null
+
+        [PSCustomObject]@{
+            Image           = $image.Name
+            Run             = $run
+            "health(ms)"    = if ($health) { [math]::Round($health) } else { "timeout" }
+            "api/tasks(ms)" = if ($tasks) { [math]::Round($tasks) } else { "timeout" }
+            Memory          = $memory
+        }
+    }
+}
+
+Write-Host "`n=== 실행별 결과 ===" -ForegroundColor Green
+$rows | Format-Table -AutoSize
+
+Write-Host "=== 평균 ===" -ForegroundColor Green
+$rows | Group-Object Image | ForEach-Object {
+    $ok = $_.Group | Where-Object { $_."api/tasks(ms)" -ne "timeout" }
+    [PSCustomObject]@{
+        Image           = $_.Name
+        "health(ms)"    = [math]::Round(($ok | Measure-Object "health(ms)" -Average).Average)
+        "api/tasks(ms)" = [math]::Round(($ok | Measure-Object "api/tasks(ms)" -Average).Average)
+        Runs            = "$($ok.Count)/$($_.Count)"
+    }
+} | Format-Table -AutoSize